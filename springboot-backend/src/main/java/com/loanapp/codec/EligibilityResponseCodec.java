@@ -0,0 +1,55 @@
+package com.loanapp.codec;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loanapp.model.EligibilityResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Hand-specialized JSON encoder for EligibilityResponse
+ * Writes the four properties straight to a generator in the order Jackson uses,
+ * with the ObjectMapper's generator settings (including indent-output)
+ */
+public class EligibilityResponseCodec {
+    
+    private final ObjectMapper objectMapper;
+    
+    public EligibilityResponseCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+    
+    /**
+     * Whether the ObjectMapper writes EligibilityResponse the way this encoder does
+     * (declaration order, original names, null message included)
+     */
+    public boolean isCompatible() {
+        JsonInclude.Include inclusion = objectMapper.getSerializationConfig()
+                .getDefaultPropertyInclusion().getValueInclusion();
+        return objectMapper.getPropertyNamingStrategy() == null
+                && !objectMapper.isEnabled(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+                && (inclusion == JsonInclude.Include.ALWAYS || inclusion == JsonInclude.Include.USE_DEFAULTS);
+    }
+    
+    /**
+     * Encode a response as UTF-8 JSON
+     * 
+     * @param response Response to write
+     * @param out Target stream, left open
+     */
+    public void write(EligibilityResponse response, OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.createGenerator(out, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartObject();
+            generator.writeBooleanField("eligible", response.isEligible());
+            generator.writeNumberField("cibilScore", response.getCibilScore());
+            generator.writeNumberField("maxEligibleAmount", response.getMaxEligibleAmount());
+            generator.writeStringField("message", response.getMessage());
+            generator.writeEndObject();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.loanapp.codec;
+
+import com.loanapp.diagnostics.SerializationEvent;
+import com.loanapp.model.EligibilityResponse;
+import com.loanapp.model.LoanRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.util.StreamUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Message converter for the fast codec path
+ * Reads LoanRequest with LoanRequestCodec and writes EligibilityResponse with
+ * EligibilityResponseCodec; request bodies the codec does not handle are passed
+ * to the regular Jackson converter, so their binding and errors are unchanged
+ */
+public class FastPathHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+    
+    private final LoanRequestCodec loanRequestCodec;
+    private final EligibilityResponseCodec eligibilityResponseCodec;
+    private final MappingJackson2HttpMessageConverter fallback;
+    
+    public FastPathHttpMessageConverter(LoanRequestCodec loanRequestCodec,
+                                        EligibilityResponseCodec eligibilityResponseCodec,
+                                        MappingJackson2HttpMessageConverter fallback) {
+        super(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+        this.loanRequestCodec = loanRequestCodec;
+        this.eligibilityResponseCodec = eligibilityResponseCodec;
+        this.fallback = fallback;
+    }
+    
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return LoanRequest.class == clazz || EligibilityResponse.class == clazz;
+    }
+    
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return LoanRequest.class == clazz && canRead(mediaType);
+    }
+    
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return EligibilityResponse.class == clazz && canWrite(mediaType);
+    }
+    
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        byte[] body = StreamUtils.copyToByteArray(inputMessage.getBody());
+        
+        // Jackson decodes an explicit non-UTF-8 charset itself; keep that path for such bodies
+        MediaType contentType = inputMessage.getHeaders().getContentType();
+        Charset charset = contentType != null ? contentType.getCharset() : null;
+        if (charset == null || StandardCharsets.UTF_8.equals(charset)) {
+            LoanRequest request = loanRequestCodec.read(body);
+            if (request != null) {
+                return request;
+            }
+        }
+        
+        return fallback.read(clazz, new BufferedInputMessage(body, inputMessage.getHeaders()));
+    }
+    
+    @Override
+    protected void writeInternal(Object object, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        SerializationEvent event = new SerializationEvent();
+        event.begin();
+        try {
+            eligibilityResponseCodec.write((EligibilityResponse) object, outputMessage.getBody());
+        } finally {
+            if (event.shouldCommit()) {
+                event.valueType = object.getClass().getSimpleName();
+                event.commit();
+            }
+        }
+    }
+    
+    /**
+     * Request body that has already been read into memory
+     */
+    private static final class BufferedInputMessage implements HttpInputMessage {
+        
+        private final byte[] body;
+        private final HttpHeaders headers;
+        
+        private BufferedInputMessage(byte[] body, HttpHeaders headers) {
+            this.body = body;
+            this.headers = headers;
+        }
+        
+        @Override
+        public InputStream getBody() {
+            return new ByteArrayInputStream(body);
+        }
+        
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
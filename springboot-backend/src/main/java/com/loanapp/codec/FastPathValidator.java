@@ -0,0 +1,39 @@
+package com.loanapp.codec;
+
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+
+/**
+ * Validator used when the fast codec path is enabled
+ * LoanRequest goes through the precompiled LoanRequestValidator; every other
+ * type (and any call with validation groups) still goes to Hibernate Validator
+ */
+public class FastPathValidator implements SmartValidator {
+    
+    private final LoanRequestValidator loanRequestValidator;
+    private final SmartValidator delegate;
+    
+    public FastPathValidator(LoanRequestValidator loanRequestValidator, SmartValidator delegate) {
+        this.loanRequestValidator = loanRequestValidator;
+        this.delegate = delegate;
+    }
+    
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return loanRequestValidator.supports(clazz) || delegate.supports(clazz);
+    }
+    
+    @Override
+    public void validate(Object target, Errors errors) {
+        validate(target, errors, new Object[0]);
+    }
+    
+    @Override
+    public void validate(Object target, Errors errors, Object... validationHints) {
+        if (target != null && validationHints.length == 0 && loanRequestValidator.supports(target.getClass())) {
+            loanRequestValidator.validate(target, errors);
+        } else {
+            delegate.validate(target, errors, validationHints);
+        }
+    }
+}
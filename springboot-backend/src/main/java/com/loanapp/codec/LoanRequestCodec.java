@@ -0,0 +1,110 @@
+package com.loanapp.codec;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loanapp.model.LoanRequest;
+
+import java.io.IOException;
+
+/**
+ * Hand-specialized JSON decoder for LoanRequest
+ * Walks the token stream and calls the setters directly instead of going through
+ * Jackson's reflective bean deserializer. Anything outside the plain shape
+ * (unknown fields, strings for numbers, malformed JSON) is reported as null so
+ * the caller can hand the body to Jackson and keep its exact behaviour and errors.
+ */
+public class LoanRequestCodec {
+    
+    private final ObjectMapper objectMapper;
+    
+    public LoanRequestCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+    
+    /**
+     * Whether the ObjectMapper binds LoanRequest the way this decoder does
+     * (no renamed properties)
+     */
+    public boolean isCompatible() {
+        return objectMapper.getPropertyNamingStrategy() == null;
+    }
+    
+    /**
+     * Decode a request body
+     * 
+     * @param body Raw JSON bytes
+     * @return Decoded request, or null when the body needs full Jackson binding
+     */
+    public LoanRequest read(byte[] body) throws IOException {
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            
+            LoanRequest request = new LoanRequest();
+            JsonToken token;
+            while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                
+                switch (field) {
+                    case "name":
+                        if (!isText(value)) {
+                            return null;
+                        }
+                        request.setName(text(parser, value));
+                        break;
+                    case "loanAmount":
+                        if (!isNumber(value)) {
+                            return null;
+                        }
+                        request.setLoanAmount(number(parser, value));
+                        break;
+                    case "mobileNumber":
+                        if (!isText(value)) {
+                            return null;
+                        }
+                        request.setMobileNumber(text(parser, value));
+                        break;
+                    case "panNumber":
+                        if (!isText(value)) {
+                            return null;
+                        }
+                        request.setPanNumber(text(parser, value));
+                        break;
+                    case "monthlyIncome":
+                        if (!isNumber(value)) {
+                            return null;
+                        }
+                        request.setMonthlyIncome(number(parser, value));
+                        break;
+                    default:
+                        return null;
+                }
+            }
+            return token == JsonToken.END_OBJECT ? request : null;
+        } catch (JsonProcessingException e) {
+            // Let Jackson produce its usual error for malformed input
+            return null;
+        }
+    }
+    
+    private static boolean isText(JsonToken token) {
+        return token == JsonToken.VALUE_STRING || token == JsonToken.VALUE_NULL;
+    }
+    
+    private static boolean isNumber(JsonToken token) {
+        return token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT
+                || token == JsonToken.VALUE_NULL;
+    }
+    
+    private static String text(JsonParser parser, JsonToken token) throws IOException {
+        return token == JsonToken.VALUE_NULL ? null : parser.getText();
+    }
+    
+    private static Double number(JsonParser parser, JsonToken token) throws IOException {
+        return token == JsonToken.VALUE_NULL ? null : parser.getDoubleValue();
+    }
+}
@@ -0,0 +1,226 @@
+package com.loanapp.codec;
+
+import com.loanapp.model.LoanRequest;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+
+import java.lang.reflect.Field;
+
+/**
+ * Precompiled, regex-free validator for LoanRequest
+ * Limits and messages are read once from the constraint annotations on LoanRequest,
+ * so error responses stay identical to Hibernate Validator's. The mobile and PAN
+ * patterns are checked character by character; if either annotation's regexp is
+ * changed, that field falls back to a precompiled java.util.regex.Pattern.
+ */
+public class LoanRequestValidator implements Validator {
+    
+    static final String MOBILE_REGEX = "^[6-9]\\d{9}$";
+    static final String PAN_REGEX = "^[A-Z]{5}[0-9]{4}[A-Z]$";
+    
+    // name
+    private final String nameRequiredMessage;
+    private final int nameMinLength;
+    private final int nameMaxLength;
+    private final String nameSizeMessage;
+    
+    // loanAmount
+    private final String loanAmountRequiredMessage;
+    private final String loanAmountPositiveMessage;
+    private final long loanAmountMin;
+    private final String loanAmountMinMessage;
+    private final long loanAmountMax;
+    private final String loanAmountMaxMessage;
+    
+    // mobileNumber
+    private final String mobileRequiredMessage;
+    private final String mobilePatternMessage;
+    private final java.util.regex.Pattern mobilePattern;
+    
+    // panNumber
+    private final String panRequiredMessage;
+    private final String panPatternMessage;
+    private final java.util.regex.Pattern panPattern;
+    
+    // monthlyIncome
+    private final String incomeRequiredMessage;
+    private final String incomePositiveMessage;
+    
+    public LoanRequestValidator() {
+        Field name = field("name");
+        nameRequiredMessage = name.getAnnotation(NotBlank.class).message();
+        Size nameSize = name.getAnnotation(Size.class);
+        nameMinLength = nameSize.min();
+        nameMaxLength = nameSize.max();
+        nameSizeMessage = nameSize.message();
+        
+        Field loanAmount = field("loanAmount");
+        loanAmountRequiredMessage = loanAmount.getAnnotation(NotNull.class).message();
+        loanAmountPositiveMessage = loanAmount.getAnnotation(Positive.class).message();
+        loanAmountMin = loanAmount.getAnnotation(Min.class).value();
+        loanAmountMinMessage = loanAmount.getAnnotation(Min.class).message();
+        loanAmountMax = loanAmount.getAnnotation(Max.class).value();
+        loanAmountMaxMessage = loanAmount.getAnnotation(Max.class).message();
+        
+        Field mobileNumber = field("mobileNumber");
+        mobileRequiredMessage = mobileNumber.getAnnotation(NotBlank.class).message();
+        Pattern mobile = mobileNumber.getAnnotation(Pattern.class);
+        mobilePatternMessage = mobile.message();
+        mobilePattern = MOBILE_REGEX.equals(mobile.regexp()) ? null : java.util.regex.Pattern.compile(mobile.regexp());
+        
+        Field panNumber = field("panNumber");
+        panRequiredMessage = panNumber.getAnnotation(NotBlank.class).message();
+        Pattern pan = panNumber.getAnnotation(Pattern.class);
+        panPatternMessage = pan.message();
+        panPattern = PAN_REGEX.equals(pan.regexp()) ? null : java.util.regex.Pattern.compile(pan.regexp());
+        
+        Field monthlyIncome = field("monthlyIncome");
+        incomeRequiredMessage = monthlyIncome.getAnnotation(NotNull.class).message();
+        incomePositiveMessage = monthlyIncome.getAnnotation(Positive.class).message();
+    }
+    
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return LoanRequest.class == clazz;
+    }
+    
+    @Override
+    public void validate(Object target, Errors errors) {
+        LoanRequest request = (LoanRequest) target;
+        
+        String name = request.getName();
+        if (isBlank(name)) {
+            errors.rejectValue("name", "NotBlank", nameRequiredMessage);
+        }
+        if (name != null && (name.length() < nameMinLength || name.length() > nameMaxLength)) {
+            errors.rejectValue("name", "Size", nameSizeMessage);
+        }
+        
+        Double loanAmount = request.getLoanAmount();
+        if (loanAmount == null) {
+            errors.rejectValue("loanAmount", "NotNull", loanAmountRequiredMessage);
+        } else {
+            double amount = loanAmount;
+            // NaN fails @Positive, @Min and @Max, as in Hibernate Validator
+            if (!isPositive(amount)) {
+                errors.rejectValue("loanAmount", "Positive", loanAmountPositiveMessage);
+            }
+            if (Double.isNaN(amount) || Double.compare(amount, loanAmountMin) < 0) {
+                errors.rejectValue("loanAmount", "Min", loanAmountMinMessage);
+            }
+            if (Double.isNaN(amount) || Double.compare(amount, loanAmountMax) > 0) {
+                errors.rejectValue("loanAmount", "Max", loanAmountMaxMessage);
+            }
+        }
+        
+        String mobileNumber = request.getMobileNumber();
+        if (isBlank(mobileNumber)) {
+            errors.rejectValue("mobileNumber", "NotBlank", mobileRequiredMessage);
+        }
+        if (mobileNumber != null && !isValidMobile(mobileNumber)) {
+            errors.rejectValue("mobileNumber", "Pattern", mobilePatternMessage);
+        }
+        
+        String panNumber = request.getPanNumber();
+        if (isBlank(panNumber)) {
+            errors.rejectValue("panNumber", "NotBlank", panRequiredMessage);
+        }
+        if (panNumber != null && !isValidPan(panNumber)) {
+            errors.rejectValue("panNumber", "Pattern", panPatternMessage);
+        }
+        
+        Double monthlyIncome = request.getMonthlyIncome();
+        if (monthlyIncome == null) {
+            errors.rejectValue("monthlyIncome", "NotNull", incomeRequiredMessage);
+        } else if (!isPositive(monthlyIncome)) {
+            errors.rejectValue("monthlyIncome", "Positive", incomePositiveMessage);
+        }
+    }
+    
+    /**
+     * Same as ^[6-9]\d{9}$ : ten ASCII digits, the first one 6-9
+     */
+    private boolean isValidMobile(String value) {
+        if (mobilePattern != null) {
+            return mobilePattern.matcher(value).matches();
+        }
+        if (value.length() != 10) {
+            return false;
+        }
+        char first = value.charAt(0);
+        if (first < '6' || first > '9') {
+            return false;
+        }
+        for (int i = 1; i < 10; i++) {
+            if (!isDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Same as ^[A-Z]{5}[0-9]{4}[A-Z]$ : five letters, four digits, one letter
+     */
+    private boolean isValidPan(String value) {
+        if (panPattern != null) {
+            return panPattern.matcher(value).matches();
+        }
+        if (value.length() != 10) {
+            return false;
+        }
+        for (int i = 0; i < 5; i++) {
+            if (!isUpper(value.charAt(i))) {
+                return false;
+            }
+        }
+        for (int i = 5; i < 9; i++) {
+            if (!isDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return isUpper(value.charAt(9));
+    }
+    
+    /**
+     * Same rule as @NotBlank: null, or nothing left after trim()
+     */
+    private static boolean isBlank(String value) {
+        if (value == null) {
+            return true;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static boolean isPositive(double value) {
+        return !Double.isNaN(value) && Double.compare(value, 0d) > 0;
+    }
+    
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+    
+    private static boolean isUpper(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+    
+    private static Field field(String name) {
+        try {
+            return LoanRequest.class.getDeclaredField(name);
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException("LoanRequest has no field " + name, e);
+        }
+    }
+}
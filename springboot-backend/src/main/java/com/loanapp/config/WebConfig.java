@@ -0,0 +1,107 @@
+package com.loanapp.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loanapp.codec.EligibilityResponseCodec;
+import com.loanapp.codec.FastPathHttpMessageConverter;
+import com.loanapp.codec.FastPathValidator;
+import com.loanapp.codec.LoanRequestCodec;
+import com.loanapp.codec.LoanRequestValidator;
+import com.loanapp.diagnostics.TimedJacksonHttpMessageConverter;
+import com.loanapp.diagnostics.TimedValidator;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.validation.SmartValidator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Spring MVC configuration
+ * Wires the Flight Recorder instrumentation around validation and JSON serialization,
+ * and the optional fast codec path for LoanRequest / EligibilityResponse
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+    
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final boolean fastCodecPath;
+    
+    @Autowired
+    public WebConfig(Validator validator, ObjectMapper objectMapper,
+                     @Value("${loanapp.codec.fast-path:false}") boolean fastCodecPath) {
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.fastCodecPath = fastCodecPath;
+    }
+    
+    /**
+     * Validator used for @Valid request bodies
+     */
+    @Override
+    public org.springframework.validation.Validator getValidator() {
+        SmartValidator hibernateValidator = new SpringValidatorAdapter(validator);
+        if (fastCodecPath) {
+            return new TimedValidator(new FastPathValidator(loanRequestValidator(), hibernateValidator));
+        }
+        return new TimedValidator(hibernateValidator);
+    }
+    
+    /**
+     * Puts the fast codec converter ahead of Jackson when the fast path is enabled
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        if (!fastCodecPath) {
+            return;
+        }
+        
+        LoanRequestCodec requestCodec = loanRequestCodec();
+        EligibilityResponseCodec responseCodec = eligibilityResponseCodec();
+        if (!requestCodec.isCompatible() || !responseCodec.isCompatible()) {
+            System.out.println("Fast codec path disabled: Jackson settings change the JSON shape");
+            return;
+        }
+        
+        MappingJackson2HttpMessageConverter jacksonConverter = null;
+        for (HttpMessageConverter<?> converter : converters) {
+            if (converter instanceof MappingJackson2HttpMessageConverter) {
+                jacksonConverter = (MappingJackson2HttpMessageConverter) converter;
+                break;
+            }
+        }
+        if (jacksonConverter != null) {
+            converters.add(0, new FastPathHttpMessageConverter(requestCodec, responseCodec, jacksonConverter));
+            System.out.println("Fast codec path enabled for LoanRequest / EligibilityResponse");
+        }
+    }
+    
+    /**
+     * Replaces Spring Boot's default Jackson converter
+     */
+    @Bean
+    public MappingJackson2HttpMessageConverter timedJacksonHttpMessageConverter(ObjectMapper objectMapper) {
+        return new TimedJacksonHttpMessageConverter(objectMapper);
+    }
+    
+    @Bean
+    public LoanRequestCodec loanRequestCodec() {
+        return new LoanRequestCodec(objectMapper);
+    }
+    
+    @Bean
+    public EligibilityResponseCodec eligibilityResponseCodec() {
+        return new EligibilityResponseCodec(objectMapper);
+    }
+    
+    @Bean
+    public LoanRequestValidator loanRequestValidator() {
+        return new LoanRequestValidator();
+    }
+}
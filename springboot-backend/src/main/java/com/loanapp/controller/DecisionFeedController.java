@@ -0,0 +1,52 @@
+package com.loanapp.controller;
+
+import com.loanapp.service.DecisionFeedService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+
+/**
+ * REST Controller for the live decision feed
+ * Streams masked eligibility decisions as Server-Sent Events
+ */
+@RestController
+@RequestMapping("/api/decisions")
+@CrossOrigin(origins = {"http://localhost:5173", "http://localhost:3000", "http://localhost:8080"})
+public class DecisionFeedController {
+    
+    private final DecisionFeedService decisionFeedService;
+    
+    @Autowired
+    public DecisionFeedController(DecisionFeedService decisionFeedService) {
+        this.decisionFeedService = decisionFeedService;
+    }
+    
+    /**
+     * Subscribe to the live feed
+     * Emits "decision" events, plus "gap" events with the number of skipped
+     * decisions when the client falls too far behind
+     * Responds with 503 when the subscriber limit is reached
+     * 
+     * @param lastEventId Sent by EventSource on reconnect to resume the stream
+     * @return SSE stream of decisions
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return decisionFeedService.subscribe(lastEventId);
+    }
+    
+    /**
+     * Feed statistics: subscriber count, per-subscriber lag and dropped events
+     * 
+     * @return Feed statistics
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> stats() {
+        return ResponseEntity.ok(decisionFeedService.stats());
+    }
+}
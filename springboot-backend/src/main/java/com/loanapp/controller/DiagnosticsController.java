@@ -0,0 +1,111 @@
+package com.loanapp.controller;
+
+import com.loanapp.diagnostics.FlightRecordingService;
+import com.loanapp.service.LoanPartitionService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+/**
+ * REST Controller for performance diagnostics
+ * Controls on-demand Flight Recorder recordings and reports
+ * the loan_applications partition layout
+ * Only registered when loanapp.diagnostics.endpoints-enabled is true
+ */
+@RestController
+@ConditionalOnProperty(name = "loanapp.diagnostics.endpoints-enabled", havingValue = "true")
+@RequestMapping("/api/diagnostics")
+public class DiagnosticsController {
+    
+    private final FlightRecordingService flightRecordingService;
+    private final LoanPartitionService loanPartitionService;
+    
+    @Autowired
+    public DiagnosticsController(FlightRecordingService flightRecordingService,
+                                 LoanPartitionService loanPartitionService) {
+        this.flightRecordingService = flightRecordingService;
+        this.loanPartitionService = loanPartitionService;
+    }
+    
+    /**
+     * Start a Flight Recorder recording of the eligibility stage events
+     * 
+     * @param profile Also enable the JDK "profile" settings
+     * @return Recording status
+     */
+    @PostMapping("/jfr/start")
+    public ResponseEntity<Map<String, Object>> startRecording(
+            @RequestParam(defaultValue = "false") boolean profile) throws IOException {
+        return ResponseEntity.ok(flightRecordingService.start(profile));
+    }
+    
+    /**
+     * Dump the running recording and download it as a .jfr file
+     * The dump file is deleted once the download stream is closed
+     * 
+     * @return The recording file
+     */
+    @PostMapping("/jfr/dump")
+    public ResponseEntity<Resource> dumpRecording() throws IOException {
+        Path file = flightRecordingService.dump();
+        
+        long size;
+        InputStream content;
+        try {
+            size = Files.size(file);
+            content = Files.newInputStream(file, StandardOpenOption.DELETE_ON_CLOSE);
+        } catch (IOException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .contentLength(size)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + file.getFileName() + "\"")
+                .body(new InputStreamResource(content));
+    }
+    
+    /**
+     * Stop the running recording
+     * 
+     * @return Recording status
+     */
+    @PostMapping("/jfr/stop")
+    public ResponseEntity<Map<String, Object>> stopRecording() {
+        return ResponseEntity.ok(flightRecordingService.stop());
+    }
+    
+    /**
+     * Current recording status
+     * 
+     * @return Recording status
+     */
+    @GetMapping("/jfr")
+    public ResponseEntity<Map<String, Object>> recordingStatus() {
+        return ResponseEntity.ok(flightRecordingService.status());
+    }
+    
+    /**
+     * Partition layout of loan_applications and months held in the archive
+     * 
+     * @return Partition and archive status
+     */
+    @GetMapping("/partitions")
+    public ResponseEntity<Map<String, Object>> partitionStatus() {
+        return ResponseEntity.ok(loanPartitionService.status());
+    }
+}
@@ -1,7 +1,11 @@
 package com.loanapp.controller;
 
+import com.loanapp.model.ApplicantSearchResult;
 import com.loanapp.model.LoanRequest;
 import com.loanapp.model.EligibilityResponse;
+import com.loanapp.model.QuoteRequest;
+import com.loanapp.model.QuoteResponse;
+import com.loanapp.service.ApplicantSearchService;
 import com.loanapp.service.LoanService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,6 +13,9 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * REST Controller for loan-related operations
  * Handles HTTP requests for loan eligibility checking
@@ -19,10 +26,12 @@ import org.springframework.web.bind.annotation.*;
 public class LoanController {
     
     private final LoanService loanService;
+    private final ApplicantSearchService applicantSearchService;
     
     @Autowired
-    public LoanController(LoanService loanService) {
+    public LoanController(LoanService loanService, ApplicantSearchService applicantSearchService) {
         this.loanService = loanService;
+        this.applicantSearchService = applicantSearchService;
     }
     
     /**
@@ -45,6 +54,43 @@ public class LoanController {
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
     
+    /**
+     * Read-only quote grid: eligibility across many loan amounts (and tenures) in one call
+     * Nothing is saved, so it is safe to call on every slider move
+     * 
+     * @param request QuoteRequest with income, loan amounts and optional tenures
+     * @return QuoteResponse with the full grid
+     */
+    @PostMapping("/quote")
+    public ResponseEntity<QuoteResponse> quote(@Valid @RequestBody QuoteRequest request) {
+        return ResponseEntity.ok(loanService.quote(request));
+    }
+    
+    /**
+     * Search applications by partial name, PAN prefix or last digits of the mobile number
+     * Served from an in-memory index, never from a LIKE scan
+     * 
+     * @param q Search text, at least 3 characters
+     * @param limit Maximum number of results (1-50)
+     * @return Ranked matches with masked PAN and mobile number
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<ApplicantSearchResult>> search(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(applicantSearchService.search(q, limit));
+    }
+    
+    /**
+     * Search index statistics
+     * 
+     * @return Indexed applications, distinct grams and posting entries
+     */
+    @GetMapping("/search/stats")
+    public ResponseEntity<Map<String, Object>> searchStats() {
+        return ResponseEntity.ok(applicantSearchService.stats());
+    }
+    
     /**
      * Health check endpoint
      * 
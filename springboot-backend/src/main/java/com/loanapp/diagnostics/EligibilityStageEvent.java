@@ -0,0 +1,14 @@
+package com.loanapp.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.StackTrace;
+
+/**
+ * Base class for JDK Flight Recorder events emitted per eligibility stage
+ * Stack traces are off so an enabled recording stays cheap on the request path
+ */
+@Category({"Loan Application", "Eligibility"})
+@StackTrace(false)
+public abstract class EligibilityStageEvent extends Event {
+}
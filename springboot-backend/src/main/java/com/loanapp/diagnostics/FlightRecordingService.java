@@ -0,0 +1,134 @@
+package com.loanapp.diagnostics;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Starts, dumps and stops an on-demand JDK Flight Recorder recording
+ * The recording always captures the eligibility stage events
+ */
+@Service
+public class FlightRecordingService {
+    
+    private static final String RECORDING_NAME = "loan-eligibility";
+    
+    private static final List<Class<? extends Event>> STAGE_EVENTS = List.of(
+        ValidationEvent.class,
+        ScoreComputationEvent.class,
+        RuleEvaluationEvent.class,
+        MessageBuildingEvent.class,
+        PersistenceEvent.class,
+        SerializationEvent.class
+    );
+    
+    private final Path recordingDirectory;
+    private final Duration maxAge;
+    
+    private Recording recording;
+    
+    public FlightRecordingService(
+            @Value("${loanapp.diagnostics.recording-directory:${java.io.tmpdir}}") String recordingDirectory,
+            @Value("${loanapp.diagnostics.recording-max-age:30m}") Duration maxAge) {
+        this.recordingDirectory = Paths.get(recordingDirectory);
+        this.maxAge = maxAge;
+    }
+    
+    /**
+     * Start a new recording
+     * 
+     * @param includeProfile Also enable the JDK "profile" settings (CPU samples, allocations, locks)
+     * @return Recording status
+     */
+    public synchronized Map<String, Object> start(boolean includeProfile) throws IOException {
+        if (recording != null) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "A flight recording is already running");
+        }
+        
+        Recording newRecording;
+        if (includeProfile) {
+            try {
+                newRecording = new Recording(Configuration.getConfiguration("profile"));
+            } catch (ParseException e) {
+                throw new IllegalStateException("Could not load the JFR profile settings", e);
+            }
+        } else {
+            newRecording = new Recording();
+        }
+        
+        newRecording.setName(RECORDING_NAME);
+        newRecording.setToDisk(true);
+        newRecording.setMaxAge(maxAge);
+        for (Class<? extends Event> eventType : STAGE_EVENTS) {
+            newRecording.enable(eventType).withoutThreshold();
+        }
+        newRecording.start();
+        
+        recording = newRecording;
+        System.out.println("Flight recording started (profile=" + includeProfile + ")");
+        return status();
+    }
+    
+    /**
+     * Dump the data recorded so far to a temporary .jfr file
+     * The recording keeps running; the caller streams the file and deletes it
+     * 
+     * @return Path of the written file
+     */
+    public synchronized Path dump() throws IOException {
+        if (recording == null) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "No flight recording is running");
+        }
+        
+        Files.createDirectories(recordingDirectory);
+        Path file = recordingDirectory.resolve(RECORDING_NAME + "-" + System.currentTimeMillis() + ".jfr");
+        recording.dump(file);
+        System.out.println("Flight recording dumped to: " + file);
+        return file;
+    }
+    
+    /**
+     * Stop and discard the running recording
+     * 
+     * @return Recording status
+     */
+    public synchronized Map<String, Object> stop() {
+        if (recording == null) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "No flight recording is running");
+        }
+        
+        recording.close();
+        recording = null;
+        System.out.println("Flight recording stopped");
+        return status();
+    }
+    
+    /**
+     * Current recording status
+     */
+    public synchronized Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("running", recording != null);
+        if (recording != null) {
+            status.put("name", recording.getName());
+            status.put("startTime", recording.getStartTime());
+            status.put("maxAge", recording.getMaxAge());
+        }
+        status.put("recordingDirectory", recordingDirectory.toString());
+        return status;
+    }
+}
@@ -0,0 +1,17 @@
+package com.loanapp.diagnostics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for the message building stage of an eligibility check
+ */
+@Name("com.loanapp.MessageBuilding")
+@Label("Message Building")
+@Description("Construction of the applicant-facing decision message")
+public class MessageBuildingEvent extends EligibilityStageEvent {
+    
+    @Label("Message Length")
+    public int messageLength;
+}
@@ -0,0 +1,17 @@
+package com.loanapp.diagnostics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for the persistence stage of an eligibility check
+ */
+@Name("com.loanapp.Persistence")
+@Label("Persistence")
+@Description("Saving the loan application entity")
+public class PersistenceEvent extends EligibilityStageEvent {
+    
+    @Label("Application Id")
+    public long applicationId;
+}
@@ -0,0 +1,21 @@
+package com.loanapp.diagnostics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for the rule evaluation stage of an eligibility check
+ */
+@Name("com.loanapp.RuleEvaluation")
+@Label("Rule Evaluation")
+@Description("Minimum score, minimum income, tier and income cap rules")
+public class RuleEvaluationEvent extends EligibilityStageEvent {
+    
+    @Label("Decision")
+    @Description("0 = approved, 1 = rejected for low score, 2 = rejected for low income")
+    public int decision;
+    
+    @Label("Max Eligible Amount")
+    public double maxEligibleAmount;
+}
@@ -0,0 +1,17 @@
+package com.loanapp.diagnostics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for the score computation stage of an eligibility check
+ */
+@Name("com.loanapp.ScoreComputation")
+@Label("CIBIL Score Computation")
+@Description("Simulated CIBIL score computation")
+public class ScoreComputationEvent extends EligibilityStageEvent {
+    
+    @Label("CIBIL Score")
+    public int cibilScore;
+}
@@ -0,0 +1,17 @@
+package com.loanapp.diagnostics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for the serialization stage of an eligibility check
+ */
+@Name("com.loanapp.Serialization")
+@Label("Response Serialization")
+@Description("JSON serialization of a response body")
+public class SerializationEvent extends EligibilityStageEvent {
+    
+    @Label("Value Type")
+    public String valueType;
+}
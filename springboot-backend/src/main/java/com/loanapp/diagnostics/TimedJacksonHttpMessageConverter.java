@@ -0,0 +1,35 @@
+package com.loanapp.diagnostics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Jackson converter that reports every response body write as a SerializationEvent
+ * Registered in place of Spring Boot's default MappingJackson2HttpMessageConverter
+ */
+public class TimedJacksonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+    
+    public TimedJacksonHttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+    
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        SerializationEvent event = new SerializationEvent();
+        event.begin();
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            if (event.shouldCommit()) {
+                event.valueType = object.getClass().getSimpleName();
+                event.commit();
+            }
+        }
+    }
+}
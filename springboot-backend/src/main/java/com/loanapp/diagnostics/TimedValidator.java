@@ -0,0 +1,42 @@
+package com.loanapp.diagnostics;
+
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+
+/**
+ * Validator wrapper that reports every @Valid check as a ValidationEvent
+ * Delegates the actual constraint evaluation to Hibernate Validator
+ */
+public class TimedValidator implements SmartValidator {
+    
+    private final SmartValidator delegate;
+    
+    public TimedValidator(SmartValidator delegate) {
+        this.delegate = delegate;
+    }
+    
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return delegate.supports(clazz);
+    }
+    
+    @Override
+    public void validate(Object target, Errors errors) {
+        validate(target, errors, new Object[0]);
+    }
+    
+    @Override
+    public void validate(Object target, Errors errors, Object... validationHints) {
+        ValidationEvent event = new ValidationEvent();
+        event.begin();
+        int errorsBefore = errors.getErrorCount();
+        
+        delegate.validate(target, errors, validationHints);
+        
+        if (event.shouldCommit()) {
+            event.targetType = target != null ? target.getClass().getSimpleName() : null;
+            event.errorCount = errors.getErrorCount() - errorsBefore;
+            event.commit();
+        }
+    }
+}
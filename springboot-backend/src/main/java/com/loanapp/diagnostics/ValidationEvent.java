@@ -0,0 +1,20 @@
+package com.loanapp.diagnostics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for the request validation stage of an eligibility check
+ */
+@Name("com.loanapp.Validation")
+@Label("Request Validation")
+@Description("Bean validation of an incoming request body")
+public class ValidationEvent extends EligibilityStageEvent {
+    
+    @Label("Target Type")
+    public String targetType;
+    
+    @Label("Error Count")
+    public int errorCount;
+}
@@ -0,0 +1,95 @@
+package com.loanapp.entity;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * JPA Entity holding the unique applicant keys of every loan application
+ * loan_applications is partitioned by created_at, so MySQL cannot enforce unique
+ * mobile and PAN numbers there; this small non-partitioned table does instead.
+ * A row is written in the same transaction as its application and is never archived.
+ */
+@Entity
+@Table(name = "loan_applicant_keys", uniqueConstraints = {
+    @UniqueConstraint(name = ApplicantKeyEntity.MOBILE_NUMBER_CONSTRAINT, columnNames = "mobile_number"),
+    @UniqueConstraint(name = ApplicantKeyEntity.PAN_NUMBER_CONSTRAINT, columnNames = "pan_number")
+})
+public class ApplicantKeyEntity implements Persistable<Long> {
+    
+    public static final String MOBILE_NUMBER_CONSTRAINT = "uk_loan_applicant_keys_mobile_number";
+    public static final String PAN_NUMBER_CONSTRAINT = "uk_loan_applicant_keys_pan_number";
+    
+    @Id
+    @Column(name = "application_id")
+    private Long applicationId;
+    
+    @Column(name = "mobile_number", nullable = false, length = 10)
+    private String mobileNumber;
+    
+    @Column(name = "pan_number", nullable = false, length = 10)
+    private String panNumber;
+    
+    // The id is assigned from the application, so tell Spring Data to persist rather than merge
+    @Transient
+    private boolean newEntity = true;
+    
+    // Default constructor
+    public ApplicantKeyEntity() {
+    }
+    
+    public ApplicantKeyEntity(Long applicationId, String mobileNumber, String panNumber) {
+        this.applicationId = applicationId;
+        this.mobileNumber = mobileNumber;
+        this.panNumber = panNumber;
+    }
+    
+    @PostLoad
+    @PostPersist
+    protected void markNotNew() {
+        newEntity = false;
+    }
+    
+    @Override
+    public Long getId() {
+        return applicationId;
+    }
+    
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+    
+    // Getters and Setters
+    public Long getApplicationId() {
+        return applicationId;
+    }
+    
+    public void setApplicationId(Long applicationId) {
+        this.applicationId = applicationId;
+    }
+    
+    public String getMobileNumber() {
+        return mobileNumber;
+    }
+    
+    public void setMobileNumber(String mobileNumber) {
+        this.mobileNumber = mobileNumber;
+    }
+    
+    public String getPanNumber() {
+        return panNumber;
+    }
+    
+    public void setPanNumber(String panNumber) {
+        this.panNumber = panNumber;
+    }
+    
+    @Override
+    public String toString() {
+        return "ApplicantKeyEntity{" +
+                "applicationId=" + applicationId +
+                ", mobileNumber='" + mobileNumber + '\'' +
+                ", panNumber='" + panNumber.substring(0, 2) + "***" + '\'' +
+                '}';
+    }
+}
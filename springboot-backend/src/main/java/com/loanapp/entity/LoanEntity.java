@@ -6,9 +6,15 @@ import java.time.LocalDateTime;
 /**
  * JPA Entity for loan applications
  * Represents a loan application record in the database
+ * The table is range-partitioned by month of created_at (see LoanPartitionService);
+ * MySQL only allows unique keys that include created_at on such a table, so mobile
+ * and PAN numbers get plain indexes here and are kept unique by ApplicantKeyEntity
  */
 @Entity
-@Table(name = "loan_applications")
+@Table(name = "loan_applications", indexes = {
+    @Index(name = "idx_loan_applications_mobile_number", columnList = "mobile_number"),
+    @Index(name = "idx_loan_applications_pan_number", columnList = "pan_number")
+})
 public class LoanEntity {
     
     @Id
@@ -21,10 +27,10 @@ public class LoanEntity {
     @Column(name = "loan_amount", nullable = false)
     private Double loanAmount;
     
-    @Column(name = "mobile_number", nullable = false, length = 10, unique = true)
+    @Column(name = "mobile_number", nullable = false, length = 10)
     private String mobileNumber;
     
-    @Column(name = "pan_number", nullable = false, length = 10, unique = true)
+    @Column(name = "pan_number", nullable = false, length = 10)
     private String panNumber;
     
     @Column(name = "monthly_income", nullable = false)
@@ -42,7 +48,7 @@ public class LoanEntity {
     @Column(name = "message", length = 500)
     private String message;
     
-    @Column(name = "created_at")
+    @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
     
     @Column(name = "updated_at")
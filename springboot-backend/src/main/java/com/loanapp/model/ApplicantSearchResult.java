@@ -0,0 +1,90 @@
+package com.loanapp.model;
+
+/**
+ * DTO for one applicant search hit
+ * PAN and mobile number are masked; matchedField names the field that matched best
+ */
+public class ApplicantSearchResult {
+    
+    private long applicationId;
+    private String name;
+    private String panNumber;
+    private String mobileNumber;
+    private String matchedField;
+    private int score;
+    
+    // Constructors
+    public ApplicantSearchResult() {
+    }
+    
+    public ApplicantSearchResult(long applicationId, String name, String panNumber,
+                                 String mobileNumber, String matchedField, int score) {
+        this.applicationId = applicationId;
+        this.name = name;
+        this.panNumber = panNumber;
+        this.mobileNumber = mobileNumber;
+        this.matchedField = matchedField;
+        this.score = score;
+    }
+    
+    // Getters and Setters
+    public long getApplicationId() {
+        return applicationId;
+    }
+    
+    public void setApplicationId(long applicationId) {
+        this.applicationId = applicationId;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public void setName(String name) {
+        this.name = name;
+    }
+    
+    public String getPanNumber() {
+        return panNumber;
+    }
+    
+    public void setPanNumber(String panNumber) {
+        this.panNumber = panNumber;
+    }
+    
+    public String getMobileNumber() {
+        return mobileNumber;
+    }
+    
+    public void setMobileNumber(String mobileNumber) {
+        this.mobileNumber = mobileNumber;
+    }
+    
+    public String getMatchedField() {
+        return matchedField;
+    }
+    
+    public void setMatchedField(String matchedField) {
+        this.matchedField = matchedField;
+    }
+    
+    public int getScore() {
+        return score;
+    }
+    
+    public void setScore(int score) {
+        this.score = score;
+    }
+    
+    @Override
+    public String toString() {
+        return "ApplicantSearchResult{" +
+                "applicationId=" + applicationId +
+                ", name='" + name + '\'' +
+                ", panNumber='" + panNumber + '\'' +
+                ", mobileNumber='" + mobileNumber + '\'' +
+                ", matchedField='" + matchedField + '\'' +
+                ", score=" + score +
+                '}';
+    }
+}
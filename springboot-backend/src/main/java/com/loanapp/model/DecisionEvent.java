@@ -0,0 +1,126 @@
+package com.loanapp.model;
+
+import java.time.Instant;
+
+/**
+ * DTO for one entry of the live decision feed
+ * Personal data is masked before it leaves the server
+ */
+public class DecisionEvent {
+    
+    private long sequence;
+    private long applicationId;
+    private String name;
+    private String panNumber;
+    private boolean eligible;
+    private int cibilScore;
+    private double loanAmount;
+    private double maxEligibleAmount;
+    private Instant decidedAt;
+    
+    // Constructors
+    public DecisionEvent() {
+    }
+    
+    public DecisionEvent(long sequence, long applicationId, String name, String panNumber,
+                         boolean eligible, int cibilScore, double loanAmount,
+                         double maxEligibleAmount, Instant decidedAt) {
+        this.sequence = sequence;
+        this.applicationId = applicationId;
+        this.name = name;
+        this.panNumber = panNumber;
+        this.eligible = eligible;
+        this.cibilScore = cibilScore;
+        this.loanAmount = loanAmount;
+        this.maxEligibleAmount = maxEligibleAmount;
+        this.decidedAt = decidedAt;
+    }
+    
+    // Getters and Setters
+    public long getSequence() {
+        return sequence;
+    }
+    
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+    
+    public long getApplicationId() {
+        return applicationId;
+    }
+    
+    public void setApplicationId(long applicationId) {
+        this.applicationId = applicationId;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public void setName(String name) {
+        this.name = name;
+    }
+    
+    public String getPanNumber() {
+        return panNumber;
+    }
+    
+    public void setPanNumber(String panNumber) {
+        this.panNumber = panNumber;
+    }
+    
+    public boolean isEligible() {
+        return eligible;
+    }
+    
+    public void setEligible(boolean eligible) {
+        this.eligible = eligible;
+    }
+    
+    public int getCibilScore() {
+        return cibilScore;
+    }
+    
+    public void setCibilScore(int cibilScore) {
+        this.cibilScore = cibilScore;
+    }
+    
+    public double getLoanAmount() {
+        return loanAmount;
+    }
+    
+    public void setLoanAmount(double loanAmount) {
+        this.loanAmount = loanAmount;
+    }
+    
+    public double getMaxEligibleAmount() {
+        return maxEligibleAmount;
+    }
+    
+    public void setMaxEligibleAmount(double maxEligibleAmount) {
+        this.maxEligibleAmount = maxEligibleAmount;
+    }
+    
+    public Instant getDecidedAt() {
+        return decidedAt;
+    }
+    
+    public void setDecidedAt(Instant decidedAt) {
+        this.decidedAt = decidedAt;
+    }
+    
+    @Override
+    public String toString() {
+        return "DecisionEvent{" +
+                "sequence=" + sequence +
+                ", applicationId=" + applicationId +
+                ", name='" + name + '\'' +
+                ", panNumber='" + panNumber + '\'' +
+                ", eligible=" + eligible +
+                ", cibilScore=" + cibilScore +
+                ", loanAmount=" + loanAmount +
+                ", maxEligibleAmount=" + maxEligibleAmount +
+                ", decidedAt=" + decidedAt +
+                '}';
+    }
+}
@@ -8,14 +8,20 @@ import jakarta.validation.constraints.*;
  */
 public class LoanRequest {
     
+    // Loan amount limits, shared with the quote grid in LoanService
+    public static final long MIN_LOAN_AMOUNT = 10000;
+    public static final long MAX_LOAN_AMOUNT = 10000000;
+    public static final String MIN_LOAN_AMOUNT_MESSAGE = "Minimum loan amount is ₹10,000";
+    public static final String MAX_LOAN_AMOUNT_MESSAGE = "Maximum loan amount is ₹1,00,00,000";
+    
     @NotBlank(message = "Name is required")
     @Size(min = 2, max = 100, message = "Name must be between 2 and 100 characters")
     private String name;
     
     @NotNull(message = "Loan amount is required")
     @Positive(message = "Loan amount must be positive")
-    @Min(value = 10000, message = "Minimum loan amount is ₹10,000")
-    @Max(value = 10000000, message = "Maximum loan amount is ₹1,00,00,000")
+    @Min(value = MIN_LOAN_AMOUNT, message = MIN_LOAN_AMOUNT_MESSAGE)
+    @Max(value = MAX_LOAN_AMOUNT, message = MAX_LOAN_AMOUNT_MESSAGE)
     private Double loanAmount;
     
     @NotBlank(message = "Mobile number is required")
@@ -0,0 +1,113 @@
+package com.loanapp.model;
+
+import jakarta.validation.constraints.*;
+
+import java.util.List;
+
+/**
+ * DTO for a read-only quote grid request
+ * Loan amounts are given either as an explicit list or as a min/max/step range
+ */
+public class QuoteRequest {
+    
+    // Grid size limits, shared with LoanService for min/max/step ranges
+    public static final int MAX_LOAN_AMOUNTS = 1000;
+    public static final String MAX_LOAN_AMOUNTS_MESSAGE = "At most 1000 loan amounts can be quoted at once";
+    public static final int MAX_TENURES = 60;
+    public static final String MAX_TENURES_MESSAGE = "At most 60 tenures can be quoted at once";
+    
+    @NotNull(message = "Monthly income is required")
+    @Positive(message = "Monthly income must be positive")
+    private Double monthlyIncome;
+    
+    @Size(max = MAX_LOAN_AMOUNTS, message = MAX_LOAN_AMOUNTS_MESSAGE)
+    private List<Double> loanAmounts;
+    
+    private Double minAmount;
+    
+    private Double maxAmount;
+    
+    @Positive(message = "Step must be positive")
+    private Double step;
+    
+    @Size(max = MAX_TENURES, message = MAX_TENURES_MESSAGE)
+    private List<Integer> tenureMonths;
+    
+    @PositiveOrZero(message = "Annual interest rate cannot be negative")
+    @Max(value = 100, message = "Annual interest rate cannot exceed 100%")
+    private Double annualInterestRate;
+    
+    // Constructors
+    public QuoteRequest() {
+    }
+    
+    // Getters and Setters
+    public Double getMonthlyIncome() {
+        return monthlyIncome;
+    }
+    
+    public void setMonthlyIncome(Double monthlyIncome) {
+        this.monthlyIncome = monthlyIncome;
+    }
+    
+    public List<Double> getLoanAmounts() {
+        return loanAmounts;
+    }
+    
+    public void setLoanAmounts(List<Double> loanAmounts) {
+        this.loanAmounts = loanAmounts;
+    }
+    
+    public Double getMinAmount() {
+        return minAmount;
+    }
+    
+    public void setMinAmount(Double minAmount) {
+        this.minAmount = minAmount;
+    }
+    
+    public Double getMaxAmount() {
+        return maxAmount;
+    }
+    
+    public void setMaxAmount(Double maxAmount) {
+        this.maxAmount = maxAmount;
+    }
+    
+    public Double getStep() {
+        return step;
+    }
+    
+    public void setStep(Double step) {
+        this.step = step;
+    }
+    
+    public List<Integer> getTenureMonths() {
+        return tenureMonths;
+    }
+    
+    public void setTenureMonths(List<Integer> tenureMonths) {
+        this.tenureMonths = tenureMonths;
+    }
+    
+    public Double getAnnualInterestRate() {
+        return annualInterestRate;
+    }
+    
+    public void setAnnualInterestRate(Double annualInterestRate) {
+        this.annualInterestRate = annualInterestRate;
+    }
+    
+    @Override
+    public String toString() {
+        return "QuoteRequest{" +
+                "monthlyIncome=" + monthlyIncome +
+                ", loanAmounts=" + (loanAmounts != null ? loanAmounts.size() + " values" : null) +
+                ", minAmount=" + minAmount +
+                ", maxAmount=" + maxAmount +
+                ", step=" + step +
+                ", tenureMonths=" + tenureMonths +
+                ", annualInterestRate=" + annualInterestRate +
+                '}';
+    }
+}
@@ -0,0 +1,121 @@
+package com.loanapp.model;
+
+/**
+ * DTO for a quote grid response
+ * Column-oriented: index i of every per-amount array refers to loanAmounts[i],
+ * and emis[i][j] is the EMI on maxEligibleAmounts[i] over tenureMonths[j]
+ */
+public class QuoteResponse {
+    
+    private double monthlyIncome;
+    private double maxAffordableLoan;
+    private double[] loanAmounts;
+    private int[] cibilScores;
+    private boolean[] eligible;
+    private double[] maxEligibleAmounts;
+    private int[] tenureMonths;
+    private Double annualInterestRate;
+    private double[][] emis;
+    
+    // Constructors
+    public QuoteResponse() {
+    }
+    
+    public QuoteResponse(double monthlyIncome, double maxAffordableLoan, double[] loanAmounts,
+                         int[] cibilScores, boolean[] eligible, double[] maxEligibleAmounts,
+                         int[] tenureMonths, Double annualInterestRate, double[][] emis) {
+        this.monthlyIncome = monthlyIncome;
+        this.maxAffordableLoan = maxAffordableLoan;
+        this.loanAmounts = loanAmounts;
+        this.cibilScores = cibilScores;
+        this.eligible = eligible;
+        this.maxEligibleAmounts = maxEligibleAmounts;
+        this.tenureMonths = tenureMonths;
+        this.annualInterestRate = annualInterestRate;
+        this.emis = emis;
+    }
+    
+    // Getters and Setters
+    public double getMonthlyIncome() {
+        return monthlyIncome;
+    }
+    
+    public void setMonthlyIncome(double monthlyIncome) {
+        this.monthlyIncome = monthlyIncome;
+    }
+    
+    public double getMaxAffordableLoan() {
+        return maxAffordableLoan;
+    }
+    
+    public void setMaxAffordableLoan(double maxAffordableLoan) {
+        this.maxAffordableLoan = maxAffordableLoan;
+    }
+    
+    public double[] getLoanAmounts() {
+        return loanAmounts;
+    }
+    
+    public void setLoanAmounts(double[] loanAmounts) {
+        this.loanAmounts = loanAmounts;
+    }
+    
+    public int[] getCibilScores() {
+        return cibilScores;
+    }
+    
+    public void setCibilScores(int[] cibilScores) {
+        this.cibilScores = cibilScores;
+    }
+    
+    public boolean[] getEligible() {
+        return eligible;
+    }
+    
+    public void setEligible(boolean[] eligible) {
+        this.eligible = eligible;
+    }
+    
+    public double[] getMaxEligibleAmounts() {
+        return maxEligibleAmounts;
+    }
+    
+    public void setMaxEligibleAmounts(double[] maxEligibleAmounts) {
+        this.maxEligibleAmounts = maxEligibleAmounts;
+    }
+    
+    public int[] getTenureMonths() {
+        return tenureMonths;
+    }
+    
+    public void setTenureMonths(int[] tenureMonths) {
+        this.tenureMonths = tenureMonths;
+    }
+    
+    public Double getAnnualInterestRate() {
+        return annualInterestRate;
+    }
+    
+    public void setAnnualInterestRate(Double annualInterestRate) {
+        this.annualInterestRate = annualInterestRate;
+    }
+    
+    public double[][] getEmis() {
+        return emis;
+    }
+    
+    public void setEmis(double[][] emis) {
+        this.emis = emis;
+    }
+    
+    @Override
+    public String toString() {
+        return "QuoteResponse{" +
+                "monthlyIncome=" + monthlyIncome +
+                ", maxAffordableLoan=" + maxAffordableLoan +
+                ", amounts=" + (loanAmounts != null ? loanAmounts.length : 0) +
+                ", tenures=" + (tenureMonths != null ? tenureMonths.length : 0) +
+                ", annualInterestRate=" + annualInterestRate +
+                '}';
+    }
+}
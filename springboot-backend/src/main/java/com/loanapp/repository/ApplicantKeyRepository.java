@@ -0,0 +1,13 @@
+package com.loanapp.repository;
+
+import com.loanapp.entity.ApplicantKeyEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for ApplicantKeyEntity
+ * Inserts fail with DataIntegrityViolationException on a duplicate mobile or PAN number
+ */
+@Repository
+public interface ApplicantKeyRepository extends JpaRepository<ApplicantKeyEntity, Long> {
+}
@@ -0,0 +1,181 @@
+package com.loanapp.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.loanapp.entity.LoanEntity;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compressed local archive of loan applications moved out of the hot table
+ * One gzipped JSON-lines file per archived month: loan_applications-yyyyMM.jsonl.gz
+ */
+@Component
+public class LoanArchiveStore {
+    
+    private static final String FILE_PREFIX = "loan_applications-";
+    private static final String FILE_SUFFIX = ".jsonl.gz";
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+    
+    private final Path directory;
+    private final ObjectWriter writer;
+    private final ObjectReader reader;
+    
+    @Autowired
+    public LoanArchiveStore(@Value("${loanapp.archive.directory:./archive}") String directory,
+                            ObjectMapper objectMapper) {
+        this.directory = Paths.get(directory);
+        // One record per line, whatever the HTTP indent setting is
+        this.writer = objectMapper.writerFor(LoanEntity.class).without(SerializationFeature.INDENT_OUTPUT);
+        this.reader = objectMapper.readerFor(LoanEntity.class);
+    }
+    
+    /**
+     * Open the archive file for a month
+     * Records become visible only when the writer is committed
+     * 
+     * @param month Month being archived
+     * @return Writer for that month's records
+     */
+    public MonthWriter open(YearMonth month) throws IOException {
+        Files.createDirectories(directory);
+        return new MonthWriter(directory.resolve(fileName(month)));
+    }
+    
+    /**
+     * Find the first archived record matching a filter, scanning newest months first
+     * This reads and decompresses archive files, so it is much slower than a table lookup
+     * 
+     * @param filter Record filter
+     * @return Matching record, if any
+     */
+    public Optional<LoanEntity> findFirst(Predicate<LoanEntity> filter) {
+        for (Path file : archiveFiles()) {
+            try (BufferedReader lines = new BufferedReader(new InputStreamReader(
+                    new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = lines.readLine()) != null) {
+                    if (line.isEmpty()) {
+                        continue;
+                    }
+                    LoanEntity loanEntity = reader.readValue(line);
+                    if (filter.test(loanEntity)) {
+                        return Optional.of(loanEntity);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read archive file " + file, e);
+            }
+        }
+        return Optional.empty();
+    }
+    
+    /**
+     * Months present in the archive, newest first
+     */
+    public List<YearMonth> archivedMonths() {
+        List<YearMonth> months = new ArrayList<>();
+        for (Path file : archiveFiles()) {
+            String name = file.getFileName().toString();
+            months.add(YearMonth.parse(
+                    name.substring(FILE_PREFIX.length(), name.length() - FILE_SUFFIX.length()), MONTH_FORMAT));
+        }
+        return months;
+    }
+    
+    private List<Path> archiveFiles() {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.startsWith(FILE_PREFIX) && name.endsWith(FILE_SUFFIX);
+                    })
+                    .sorted(Comparator.comparing((Path file) -> file.getFileName().toString()).reversed())
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not list archive directory " + directory, e);
+        }
+    }
+    
+    private static String fileName(YearMonth month) {
+        return FILE_PREFIX + month.format(MONTH_FORMAT) + FILE_SUFFIX;
+    }
+    
+    /**
+     * Writes one month to a temporary file and moves it into place on commit
+     */
+    public final class MonthWriter implements Closeable {
+        
+        private final Path target;
+        private final Path temporary;
+        private final BufferedWriter out;
+        private long count;
+        private boolean committed;
+        
+        private MonthWriter(Path target) throws IOException {
+            this.target = target;
+            this.temporary = target.resolveSibling(target.getFileName() + ".tmp");
+            this.out = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(temporary)), StandardCharsets.UTF_8));
+        }
+        
+        public void write(LoanEntity loanEntity) throws IOException {
+            out.write(writer.writeValueAsString(loanEntity));
+            out.newLine();
+            count++;
+        }
+        
+        /**
+         * Finish the file and atomically replace any earlier archive of the same month
+         * 
+         * @return Number of records written
+         */
+        public long commit() throws IOException {
+            out.close();
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            committed = true;
+            return count;
+        }
+        
+        public Path getTarget() {
+            return target;
+        }
+        
+        @Override
+        public void close() throws IOException {
+            if (!committed) {
+                out.close();
+                Files.deleteIfExists(temporary);
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.loanapp.repository;
+
+import com.loanapp.entity.LoanEntity;
+
+import java.util.Optional;
+
+/**
+ * Explicit, slower lookups against the compressed archive of loan applications
+ * Records end up there once their monthly partition passes the retention age
+ */
+public interface LoanEntityArchiveRepository {
+    
+    /**
+     * Find an archived loan application by id
+     * @param id Application id
+     * @return Optional LoanEntity
+     */
+    Optional<LoanEntity> findArchivedById(Long id);
+    
+    /**
+     * Find an archived loan application by mobile number
+     * @param mobileNumber Mobile number to search for
+     * @return Optional LoanEntity
+     */
+    Optional<LoanEntity> findArchivedByMobileNumber(String mobileNumber);
+    
+    /**
+     * Find an archived loan application by PAN number
+     * @param panNumber PAN number to search for
+     * @return Optional LoanEntity
+     */
+    Optional<LoanEntity> findArchivedByPanNumber(String panNumber);
+}
@@ -0,0 +1,35 @@
+package com.loanapp.repository;
+
+import com.loanapp.entity.LoanEntity;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.Optional;
+
+/**
+ * Archive lookups backing LoanEntityArchiveRepository
+ * Each call scans the archive files, newest month first
+ */
+public class LoanEntityArchiveRepositoryImpl implements LoanEntityArchiveRepository {
+    
+    private final LoanArchiveStore loanArchiveStore;
+    
+    @Autowired
+    public LoanEntityArchiveRepositoryImpl(LoanArchiveStore loanArchiveStore) {
+        this.loanArchiveStore = loanArchiveStore;
+    }
+    
+    @Override
+    public Optional<LoanEntity> findArchivedById(Long id) {
+        return loanArchiveStore.findFirst(loanEntity -> id.equals(loanEntity.getId()));
+    }
+    
+    @Override
+    public Optional<LoanEntity> findArchivedByMobileNumber(String mobileNumber) {
+        return loanArchiveStore.findFirst(loanEntity -> mobileNumber.equals(loanEntity.getMobileNumber()));
+    }
+    
+    @Override
+    public Optional<LoanEntity> findArchivedByPanNumber(String panNumber) {
+        return loanArchiveStore.findFirst(loanEntity -> panNumber.equals(loanEntity.getPanNumber()));
+    }
+}
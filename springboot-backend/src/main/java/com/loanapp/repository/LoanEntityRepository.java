@@ -1,6 +1,7 @@
 package com.loanapp.repository;
 
 import com.loanapp.entity.LoanEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -10,9 +11,11 @@ import java.util.Optional;
 /**
  * Repository interface for LoanEntity
  * Provides CRUD operations and custom query methods
+ * Derived finders only see the hot table; the *IncludingArchive methods
+ * fall back to the compressed archive when nothing is found there
  */
 @Repository
-public interface LoanEntityRepository extends JpaRepository<LoanEntity, Long> {
+public interface LoanEntityRepository extends JpaRepository<LoanEntity, Long>, LoanEntityArchiveRepository {
     
     /**
      * Find loan application by mobile number
@@ -48,5 +51,40 @@ public interface LoanEntityRepository extends JpaRepository<LoanEntity, Long> {
      * @return true if exists, false otherwise
      */
     boolean existsByPanNumber(String panNumber);
+    
+    /**
+     * Next page of loan applications after the given id, in id order
+     * Keyset paging: each page is an index range scan, however deep into the table
+     * @param id Last id of the previous page (0 for the first page)
+     * @param pageable Page size; the page number should stay 0
+     * @return List of LoanEntity
+     */
+    List<LoanEntity> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+    
+    /**
+     * Find loan application by id, falling back to the archive
+     * @param id Application id
+     * @return Optional LoanEntity
+     */
+    default Optional<LoanEntity> findByIdIncludingArchive(Long id) {
+        return findById(id).or(() -> findArchivedById(id));
+    }
+    
+    /**
+     * Find loan application by mobile number, falling back to the archive
+     * @param mobileNumber Mobile number to search for
+     * @return Optional LoanEntity
+     */
+    default Optional<LoanEntity> findByMobileNumberIncludingArchive(String mobileNumber) {
+        return findByMobileNumber(mobileNumber).or(() -> findArchivedByMobileNumber(mobileNumber));
+    }
+    
+    /**
+     * Find loan application by PAN number, falling back to the archive
+     * @param panNumber PAN number to search for
+     * @return Optional LoanEntity
+     */
+    default Optional<LoanEntity> findByPanNumberIncludingArchive(String panNumber) {
+        return findByPanNumber(panNumber).or(() -> findArchivedByPanNumber(panNumber));
+    }
 }
-
@@ -0,0 +1,41 @@
+package com.loanapp.service;
+
+/**
+ * Masking of applicant personal data before it leaves the server
+ * Shared by the search results and the decision feed so both show the same masked values
+ */
+public final class ApplicantMasking {
+    
+    private ApplicantMasking() {
+    }
+    
+    /**
+     * First letter of the name, e.g. "R***"
+     */
+    public static String maskName(String name) {
+        if (name == null || name.isEmpty()) {
+            return name;
+        }
+        return name.charAt(0) + "***";
+    }
+    
+    /**
+     * First two characters of the PAN number, e.g. "AB***"
+     */
+    public static String maskPan(String panNumber) {
+        if (panNumber == null || panNumber.length() < 2) {
+            return "***";
+        }
+        return panNumber.substring(0, 2) + "***";
+    }
+    
+    /**
+     * Last four digits of the mobile number, e.g. "******3210"
+     */
+    public static String maskMobile(String mobileNumber) {
+        if (mobileNumber == null || mobileNumber.length() < 4) {
+            return "***";
+        }
+        return "******" + mobileNumber.substring(mobileNumber.length() - 4);
+    }
+}
@@ -0,0 +1,385 @@
+package com.loanapp.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory trigram index over applicant name, PAN and mobile number
+ * Every field value is split into 3-character grams; each gram maps to a sorted
+ * int[] posting list of document ordinals. A query intersects the posting lists
+ * of its grams, verifies the candidates and keeps the best k by score.
+ * Removed documents are only flagged; their slots are reclaimed when the index is rebuilt.
+ */
+public class ApplicantSearchIndex {
+    
+    public static final int MIN_QUERY_LENGTH = 3;
+    
+    // Field codes, also used as the high bits of a gram key
+    public static final int FIELD_NAME = 0;
+    public static final int FIELD_PAN = 1;
+    public static final int FIELD_MOBILE = 2;
+    private static final int FIELD_COUNT = 3;
+    private static final String[] FIELD_NAMES = {"name", "panNumber", "mobileNumber"};
+    
+    private static final int INITIAL_CAPACITY = 1024;
+    
+    // Exact match covering the whole value
+    private static final int MAX_SCORE = 120;
+    
+    /**
+     * One ranked search hit
+     */
+    public static final class Match {
+        private final long applicationId;
+        private final String name;
+        private final String panNumber;
+        private final String mobileNumber;
+        private final String matchedField;
+        private final int score;
+        private final int document;
+        
+        private Match(long applicationId, String name, String panNumber, String mobileNumber,
+                      String matchedField, int score, int document) {
+            this.applicationId = applicationId;
+            this.name = name;
+            this.panNumber = panNumber;
+            this.mobileNumber = mobileNumber;
+            this.matchedField = matchedField;
+            this.score = score;
+            this.document = document;
+        }
+        
+        public long getApplicationId() {
+            return applicationId;
+        }
+        
+        public String getName() {
+            return name;
+        }
+        
+        public String getPanNumber() {
+            return panNumber;
+        }
+        
+        public String getMobileNumber() {
+            return mobileNumber;
+        }
+        
+        public String getMatchedField() {
+            return matchedField;
+        }
+        
+        public int getScore() {
+            return score;
+        }
+    }
+    
+    /**
+     * Growable sorted list of document ordinals
+     */
+    private static final class PostingList {
+        private int[] documents = new int[4];
+        private int size;
+        
+        private void add(int document) {
+            // Documents arrive in increasing order; skip a gram repeated in one value
+            if (size > 0 && documents[size - 1] == document) {
+                return;
+            }
+            if (size == documents.length) {
+                documents = Arrays.copyOf(documents, size + (size >> 1) + 1);
+            }
+            documents[size++] = document;
+        }
+    }
+    
+    // Newest first on equal score
+    private static final Comparator<Match> RANKING =
+            Comparator.comparingInt((Match match) -> match.score).thenComparingInt(match -> match.document);
+    
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, PostingList> postings = new HashMap<>();
+    
+    private long[] applicationIds = new long[INITIAL_CAPACITY];
+    private String[] names = new String[INITIAL_CAPACITY];
+    // Normalized values per field: lower-case name, upper-case PAN, mobile as is
+    private String[][] values = new String[FIELD_COUNT][INITIAL_CAPACITY];
+    private boolean[] removed = new boolean[INITIAL_CAPACITY];
+    private int size;
+    private int removedCount;
+    private long postingEntries;
+    
+    /**
+     * Add one application to the index
+     */
+    public void add(long applicationId, String name, String panNumber, String mobileNumber) {
+        lock.writeLock().lock();
+        try {
+            if (size == applicationIds.length) {
+                int capacity = size + (size >> 1);
+                applicationIds = Arrays.copyOf(applicationIds, capacity);
+                names = Arrays.copyOf(names, capacity);
+                removed = Arrays.copyOf(removed, capacity);
+                for (int field = 0; field < FIELD_COUNT; field++) {
+                    values[field] = Arrays.copyOf(values[field], capacity);
+                }
+            }
+            
+            int document = size++;
+            applicationIds[document] = applicationId;
+            names[document] = name;
+            indexValue(document, FIELD_NAME, normalize(FIELD_NAME, name));
+            indexValue(document, FIELD_PAN, normalize(FIELD_PAN, panNumber));
+            indexValue(document, FIELD_MOBILE, normalize(FIELD_MOBILE, mobileNumber));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Find the best matches for a partial name, PAN prefix or mobile digits
+     * 
+     * @param query At least MIN_QUERY_LENGTH characters
+     * @param limit Maximum number of distinct applications to return
+     * @return Matches ordered by descending score
+     */
+    public List<Match> search(String query, int limit) {
+        // A document can match in every field, so keep enough hits for limit distinct applications
+        int heapSize = limit * FIELD_COUNT;
+        PriorityQueue<Match> best = new PriorityQueue<>(heapSize + 1, RANKING);
+        
+        lock.readLock().lock();
+        try {
+            for (int field = 0; field < FIELD_COUNT; field++) {
+                String normalizedQuery = normalize(field, query);
+                if (normalizedQuery.length() < MIN_QUERY_LENGTH) {
+                    continue;
+                }
+                collectMatches(field, normalizedQuery, best, heapSize);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        
+        Match[] ranked = best.toArray(new Match[0]);
+        Arrays.sort(ranked, RANKING.reversed());
+        
+        List<Match> results = new ArrayList<>(Math.min(limit, ranked.length));
+        for (Match match : ranked) {
+            if (results.size() == limit) {
+                break;
+            }
+            if (!containsApplication(results, match.applicationId)) {
+                results.add(match);
+            }
+        }
+        return results;
+    }
+    
+    /**
+     * Remove applications from search results, e.g. after their partition was archived
+     * 
+     * @param removedApplicationIds Ids of the applications to remove
+     * @return Number of documents removed
+     */
+    public int removeAll(Set<Long> removedApplicationIds) {
+        lock.writeLock().lock();
+        try {
+            int count = 0;
+            for (int document = 0; document < size; document++) {
+                if (!removed[document] && removedApplicationIds.contains(applicationIds[document])) {
+                    removed[document] = true;
+                    count++;
+                }
+            }
+            removedCount += count;
+            return count;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Whether an application is already in the index
+     * Linear scan; only used to de-duplicate the startup load
+     */
+    public boolean contains(long applicationId) {
+        lock.readLock().lock();
+        try {
+            for (int document = 0; document < size; document++) {
+                if (applicationIds[document] == applicationId && !removed[document]) {
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size - removedCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Index size figures: documents, distinct grams and posting entries
+     */
+    public Map<String, Object> stats() {
+        lock.readLock().lock();
+        try {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("documents", size - removedCount);
+            stats.put("removedDocuments", removedCount);
+            stats.put("grams", postings.size());
+            stats.put("postingEntries", postingEntries);
+            return stats;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private void indexValue(int document, int field, String value) {
+        values[field][document] = value;
+        for (int i = 0; i + MIN_QUERY_LENGTH <= value.length(); i++) {
+            PostingList list = postings.computeIfAbsent(gramKey(field, value, i), key -> new PostingList());
+            int before = list.size;
+            list.add(document);
+            postingEntries += list.size - before;
+        }
+    }
+    
+    private void collectMatches(int field, String query, PriorityQueue<Match> best, int heapSize) {
+        int gramCount = query.length() - MIN_QUERY_LENGTH + 1;
+        PostingList[] lists = new PostingList[gramCount];
+        for (int i = 0; i < gramCount; i++) {
+            PostingList list = postings.get(gramKey(field, query, i));
+            if (list == null) {
+                return;
+            }
+            lists[i] = list;
+        }
+        // Drive the intersection from the rarest gram
+        Arrays.sort(lists, Comparator.comparingInt(list -> list.size));
+        
+        PostingList rarest = lists[0];
+        String[] fieldValues = values[field];
+        // Walk every list from its newest document down, merging in step with the rarest list
+        int[] positions = new int[gramCount];
+        for (int i = 1; i < gramCount; i++) {
+            positions[i] = lists[i].size - 1;
+        }
+        
+        for (int i = rarest.size - 1; i >= 0; i--) {
+            int document = rarest.documents[i];
+            if (!inAll(lists, positions, document) || removed[document]) {
+                continue;
+            }
+            String value = fieldValues[document];
+            // Grams only guarantee the pieces exist; confirm the whole query
+            if (!value.contains(query)) {
+                continue;
+            }
+            int score = score(field, value, query);
+            if (best.size() == heapSize && score <= best.peek().score) {
+                // Walking newest first: once the heap holds only top scores nothing older can displace them
+                if (best.peek().score >= MAX_SCORE) {
+                    return;
+                }
+                continue;
+            }
+            best.add(new Match(applicationIds[document], names[document], values[FIELD_PAN][document],
+                    values[FIELD_MOBILE][document], FIELD_NAMES[field], score, document));
+            if (best.size() > heapSize) {
+                best.poll();
+            }
+        }
+    }
+    
+    private static boolean inAll(PostingList[] lists, int[] positions, int document) {
+        for (int i = 1; i < lists.length; i++) {
+            int[] documents = lists[i].documents;
+            int position = positions[i];
+            while (position >= 0 && documents[position] > document) {
+                position--;
+            }
+            positions[i] = position;
+            if (position < 0 || documents[position] != document) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Exact > prefix (or mobile suffix) > start of a name word > anywhere,
+     * with a bonus for covering more of the value
+     */
+    private static int score(int field, String value, String query) {
+        int base;
+        if (value.equals(query)) {
+            base = 100;
+        } else if (value.startsWith(query)) {
+            base = 80;
+        } else if (field == FIELD_MOBILE && value.endsWith(query)) {
+            base = 80;
+        } else if (field == FIELD_NAME && startsWord(value, query)) {
+            base = 70;
+        } else {
+            base = 50;
+        }
+        return base + (query.length() * 20) / value.length();
+    }
+    
+    private static boolean startsWord(String value, String query) {
+        for (int i = value.indexOf(query, 1); i > 0; i = value.indexOf(query, i + 1)) {
+            if (value.charAt(i - 1) == ' ') {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private static boolean containsApplication(List<Match> matches, long applicationId) {
+        for (Match match : matches) {
+            if (match.applicationId == applicationId) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private static String normalize(int field, String value) {
+        if (value == null) {
+            return "";
+        }
+        String trimmed = value.trim();
+        if (field == FIELD_NAME) {
+            return trimmed.toLowerCase(Locale.ROOT);
+        }
+        if (field == FIELD_PAN) {
+            return trimmed.toUpperCase(Locale.ROOT);
+        }
+        return trimmed;
+    }
+    
+    private static long gramKey(int field, String value, int offset) {
+        return ((long) field << 48)
+                | ((long) value.charAt(offset) << 32)
+                | ((long) value.charAt(offset + 1) << 16)
+                | value.charAt(offset + 2);
+    }
+}
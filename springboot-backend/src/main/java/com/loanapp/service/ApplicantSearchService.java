@@ -0,0 +1,151 @@
+package com.loanapp.service;
+
+import com.loanapp.entity.LoanEntity;
+import com.loanapp.model.ApplicantSearchResult;
+import com.loanapp.repository.LoanEntityRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Applicant lookup by partial name, PAN prefix or mobile digits
+ * Backed by an in-memory ApplicantSearchIndex instead of LIKE scans on loan_applications;
+ * the index is loaded once at startup and updated as LoanService's transactions commit.
+ */
+@Service
+public class ApplicantSearchService {
+    
+    public static final int MAX_LIMIT = 50;
+    
+    private static final int LOAD_PAGE_SIZE = 1000;
+    
+    private final ApplicantSearchIndex index = new ApplicantSearchIndex();
+    private final LoanEntityRepository loanEntityRepository;
+    
+    // Applications committed while the startup load runs; null once it has finished
+    private final Object loadLock = new Object();
+    private List<LoanEntity> pendingAdds = new ArrayList<>();
+    
+    @Autowired
+    public ApplicantSearchService(LoanEntityRepository loanEntityRepository) {
+        this.loanEntityRepository = loanEntityRepository;
+    }
+    
+    /**
+     * Load every stored application into the index, page by page
+     * Requests are already being served, so applications committed meanwhile are
+     * held back and added afterwards unless a page has already picked them up
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIndex() {
+        long start = System.currentTimeMillis();
+        
+        try {
+            // Page by id rather than offset so later pages do not rescan the earlier ones
+            Pageable pageable = PageRequest.of(0, LOAD_PAGE_SIZE);
+            long lastId = 0;
+            List<LoanEntity> page;
+            do {
+                page = loanEntityRepository.findByIdGreaterThanOrderByIdAsc(lastId, pageable);
+                for (LoanEntity loanEntity : page) {
+                    add(loanEntity);
+                    lastId = loanEntity.getId();
+                }
+            } while (page.size() == LOAD_PAGE_SIZE);
+        } finally {
+            synchronized (loadLock) {
+                for (LoanEntity loanEntity : pendingAdds) {
+                    if (loanEntity.getId() != null && !index.contains(loanEntity.getId())) {
+                        add(loanEntity);
+                    }
+                }
+                pendingAdds = null;
+            }
+        }
+        
+        System.out.println("Applicant search index loaded: " + index.size() + " applications in "
+                + (System.currentTimeMillis() - start) + " ms");
+    }
+    
+    /**
+     * Index an application once its transaction has committed
+     * A rolled-back application is never indexed
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onApplicationSaved(LoanApplicationSavedEvent event) {
+        LoanEntity loanEntity = event.getLoanEntity();
+        synchronized (loadLock) {
+            if (pendingAdds != null) {
+                pendingAdds.add(loanEntity);
+                return;
+            }
+        }
+        add(loanEntity);
+    }
+    
+    /**
+     * Drop applications that are no longer in loan_applications from the index
+     * Called by LoanPartitionService after it archives a partition
+     * 
+     * @param applicationIds Ids of the archived applications
+     */
+    public void removeArchived(Set<Long> applicationIds) {
+        int removed = index.removeAll(applicationIds);
+        System.out.println("Removed " + removed + " archived applications from the search index");
+    }
+    
+    /**
+     * Ranked top-k search
+     * 
+     * @param query Partial name, PAN prefix or mobile digits
+     * @param limit Maximum number of results
+     * @return Matching applications, best first
+     */
+    public List<ApplicantSearchResult> search(String query, int limit) {
+        if (query == null || query.trim().length() < ApplicantSearchIndex.MIN_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Search query must be at least "
+                    + ApplicantSearchIndex.MIN_QUERY_LENGTH + " characters");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        
+        List<ApplicantSearchResult> results = new ArrayList<>();
+        for (ApplicantSearchIndex.Match match : index.search(query, limit)) {
+            results.add(new ApplicantSearchResult(
+                match.getApplicationId(),
+                match.getName(),
+                ApplicantMasking.maskPan(match.getPanNumber()),
+                ApplicantMasking.maskMobile(match.getMobileNumber()),
+                match.getMatchedField(),
+                match.getScore()
+            ));
+        }
+        return results;
+    }
+    
+    /**
+     * Index statistics
+     */
+    public Map<String, Object> stats() {
+        return index.stats();
+    }
+    
+    private void add(LoanEntity loanEntity) {
+        if (loanEntity.getId() == null) {
+            return;
+        }
+        index.add(loanEntity.getId(), loanEntity.getName(),
+                loanEntity.getPanNumber(), loanEntity.getMobileNumber());
+    }
+}
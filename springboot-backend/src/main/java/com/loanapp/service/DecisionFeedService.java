@@ -0,0 +1,277 @@
+package com.loanapp.service;
+
+import com.loanapp.entity.LoanEntity;
+import com.loanapp.model.DecisionEvent;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Live feed of eligibility decisions over Server-Sent Events
+ * Saved applications are published into a pre-allocated ring buffer once their
+ * transaction commits; every subscriber drains it on its own thread with its own
+ * cursor. Subscribers that fall more than max-lag events behind skip ahead to the
+ * newest decisions instead of slowing down the request path, and are dropped when
+ * their connection fails.
+ */
+@Service
+public class DecisionFeedService {
+    
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+    private static final long HEARTBEAT_INTERVAL_MILLIS = 15_000;
+    
+    private final DecisionRingBuffer ringBuffer;
+    private final int maxSubscribers;
+    private final long maxLag;
+    private final long emitterTimeoutMillis;
+    
+    private final Map<Long, Subscriber> subscribers = new ConcurrentHashMap<>();
+    private final AtomicLong subscriberIds = new AtomicLong();
+    private final ExecutorService executor;
+    
+    public DecisionFeedService(
+            @Value("${loanapp.feed.capacity:4096}") int capacity,
+            @Value("${loanapp.feed.max-subscribers:32}") int maxSubscribers,
+            @Value("${loanapp.feed.max-lag:2048}") long maxLag,
+            @Value("${loanapp.feed.emitter-timeout:30m}") Duration emitterTimeout) {
+        this.ringBuffer = new DecisionRingBuffer(capacity);
+        this.maxSubscribers = maxSubscribers;
+        // A reader further behind than the buffer would only find overwritten slots
+        this.maxLag = Math.min(maxLag, ringBuffer.getCapacity() - 1);
+        this.emitterTimeoutMillis = emitterTimeout.toMillis();
+        
+        AtomicLong threadIds = new AtomicLong();
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "decision-feed-" + threadIds.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+    
+    /**
+     * Publish a decision after LoanService's transaction has committed
+     * A rolled-back application never reaches subscribers
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onApplicationSaved(LoanApplicationSavedEvent event) {
+        publish(event.getLoanEntity());
+    }
+    
+    /**
+     * Publish a saved decision to the feed
+     * Never blocks and does not allocate, whatever the number of subscribers
+     * 
+     * @param loanEntity Saved loan application
+     */
+    public void publish(LoanEntity loanEntity) {
+        ringBuffer.publish(
+            loanEntity.getId() != null ? loanEntity.getId() : -1L,
+            loanEntity.getName(),
+            loanEntity.getPanNumber(),
+            Boolean.TRUE.equals(loanEntity.getEligible()),
+            loanEntity.getCibilScore() != null ? loanEntity.getCibilScore() : 0,
+            loanEntity.getLoanAmount() != null ? loanEntity.getLoanAmount() : 0.0,
+            loanEntity.getMaxEligibleAmount() != null ? loanEntity.getMaxEligibleAmount() : 0.0,
+            System.currentTimeMillis()
+        );
+    }
+    
+    /**
+     * Register a new SSE subscriber
+     * 
+     * @param lastEventId Last sequence the client saw, to resume after a reconnect (optional)
+     * @return SseEmitter streaming "decision" events
+     * @throws ResponseStatusException 503 Service Unavailable when max-subscribers are already connected
+     */
+    public SseEmitter subscribe(Long lastEventId) {
+        return subscribe(lastEventId, new SseEmitter(emitterTimeoutMillis));
+    }
+    
+    /**
+     * Register a subscriber that streams into the given emitter
+     * Package-private so tests can capture what is sent
+     */
+    synchronized SseEmitter subscribe(Long lastEventId, SseEmitter emitter) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                    "The decision feed already has the maximum of " + maxSubscribers + " subscribers");
+        }
+        
+        // Resume after lastEventId if it is still in the buffer, otherwise start from now
+        long head = ringBuffer.getNextSequence();
+        long start = head;
+        if (lastEventId != null && lastEventId + 1 <= head && head - (lastEventId + 1) <= maxLag) {
+            start = lastEventId + 1;
+        }
+        
+        Subscriber subscriber = new Subscriber(subscriberIds.incrementAndGet(), emitter, start);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+        
+        subscribers.put(subscriber.id, subscriber);
+        executor.execute(subscriber);
+        System.out.println("Decision feed subscriber " + subscriber.id + " connected");
+        return emitter;
+    }
+    
+    /**
+     * Feed statistics: published events, subscriber count and per-subscriber lag
+     */
+    public Map<String, Object> stats() {
+        long head = ringBuffer.getNextSequence();
+        
+        List<Map<String, Object>> subscriberStats = new ArrayList<>();
+        for (Subscriber subscriber : subscribers.values()) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("id", subscriber.id);
+            entry.put("connectedAt", subscriber.connectedAt);
+            entry.put("lag", Math.max(0, head - subscriber.cursor));
+            entry.put("delivered", subscriber.delivered);
+            entry.put("dropped", subscriber.dropped);
+            subscriberStats.add(entry);
+        }
+        
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("publishedEvents", head);
+        stats.put("capacity", ringBuffer.getCapacity());
+        stats.put("maxLag", maxLag);
+        stats.put("subscriberCount", subscriberStats.size());
+        stats.put("maxSubscribers", maxSubscribers);
+        stats.put("subscribers", subscriberStats);
+        return stats;
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        for (Subscriber subscriber : subscribers.values()) {
+            subscriber.close();
+        }
+        executor.shutdownNow();
+    }
+    
+    /**
+     * One connected client, drained by its own thread
+     * Only that thread writes cursor, delivered and dropped
+     */
+    private final class Subscriber implements Runnable {
+        
+        private final long id;
+        private final SseEmitter emitter;
+        private final Instant connectedAt = Instant.now();
+        private final DecisionRingBuffer.Slot scratch = new DecisionRingBuffer.Slot();
+        private final AtomicBoolean active = new AtomicBoolean(true);
+        
+        private volatile long cursor;
+        private volatile long delivered;
+        private volatile long dropped;
+        
+        private Subscriber(long id, SseEmitter emitter, long cursor) {
+            this.id = id;
+            this.emitter = emitter;
+            this.cursor = cursor;
+        }
+        
+        @Override
+        public void run() {
+            long lastSendMillis;
+            try {
+                // Commits the response headers right away, even when no decisions are flowing
+                emitter.send(SseEmitter.event().comment("connected"));
+                lastSendMillis = System.currentTimeMillis();
+                
+                while (active.get()) {
+                    long head = ringBuffer.getNextSequence();
+                    long lag = head - cursor;
+                    
+                    if (lag > maxLag) {
+                        // Too slow: skip to the newest decisions and tell the client how many were missed
+                        long skipped = lag;
+                        cursor = head;
+                        dropped += skipped;
+                        emitter.send(SseEmitter.event().name("gap").data(skipped));
+                        lastSendMillis = System.currentTimeMillis();
+                        continue;
+                    }
+                    
+                    if (lag <= 0) {
+                        if (System.currentTimeMillis() - lastSendMillis >= HEARTBEAT_INTERVAL_MILLIS) {
+                            emitter.send(SseEmitter.event().comment("heartbeat"));
+                            lastSendMillis = System.currentTimeMillis();
+                        }
+                        LockSupport.parkNanos(IDLE_PARK_NANOS);
+                        continue;
+                    }
+                    
+                    int status = ringBuffer.read(cursor, scratch);
+                    if (status == DecisionRingBuffer.READ) {
+                        emitter.send(SseEmitter.event()
+                                .id(Long.toString(cursor))
+                                .name("decision")
+                                .data(toEvent(cursor, scratch), MediaType.APPLICATION_JSON));
+                        cursor++;
+                        delivered++;
+                        lastSendMillis = System.currentTimeMillis();
+                    } else if (status == DecisionRingBuffer.OVERWRITTEN) {
+                        cursor++;
+                        dropped++;
+                    } else {
+                        // A publisher is still writing this slot
+                        Thread.onSpinWait();
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client went away or the emitter already completed
+                System.out.println("Decision feed subscriber " + id + " dropped: " + e.getMessage());
+            } finally {
+                close();
+            }
+        }
+        
+        private DecisionEvent toEvent(long sequence, DecisionRingBuffer.Slot slot) {
+            return new DecisionEvent(
+                sequence,
+                slot.getApplicationId(),
+                ApplicantMasking.maskName(slot.getName()),
+                ApplicantMasking.maskPan(slot.getPanNumber()),
+                slot.isEligible(),
+                slot.getCibilScore(),
+                slot.getLoanAmount(),
+                slot.getMaxEligibleAmount(),
+                Instant.ofEpochMilli(slot.getDecidedAtMillis())
+            );
+        }
+        
+        private void close() {
+            if (active.compareAndSet(true, false)) {
+                subscribers.remove(id);
+                try {
+                    emitter.complete();
+                } catch (IllegalStateException e) {
+                    // Already completed
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.loanapp.service;
+
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pre-allocated ring buffer of eligibility decisions
+ * Publishing claims a sequence and overwrites a slot in place, so it never blocks
+ * and never allocates. Readers keep their own cursor and detect overwritten slots
+ * through the per-slot sequence (seqlock), so a slow reader can only lose events,
+ * never hold up a publisher.
+ */
+public class DecisionRingBuffer {
+    
+    // Result codes for read()
+    public static final int READ = 0;
+    public static final int NOT_READY = 1;
+    public static final int OVERWRITTEN = 2;
+    
+    /**
+     * One reusable slot; fields are written in place by publishers
+     */
+    public static final class Slot {
+        private volatile long sequence = -1;
+        private long applicationId;
+        private String name;
+        private String panNumber;
+        private boolean eligible;
+        private int cibilScore;
+        private double loanAmount;
+        private double maxEligibleAmount;
+        private long decidedAtMillis;
+        
+        public long getApplicationId() {
+            return applicationId;
+        }
+        
+        public String getName() {
+            return name;
+        }
+        
+        public String getPanNumber() {
+            return panNumber;
+        }
+        
+        public boolean isEligible() {
+            return eligible;
+        }
+        
+        public int getCibilScore() {
+            return cibilScore;
+        }
+        
+        public double getLoanAmount() {
+            return loanAmount;
+        }
+        
+        public double getMaxEligibleAmount() {
+            return maxEligibleAmount;
+        }
+        
+        public long getDecidedAtMillis() {
+            return decidedAtMillis;
+        }
+    }
+    
+    private final Slot[] slots;
+    private final int mask;
+    private final AtomicLong nextSequence = new AtomicLong();
+    
+    /**
+     * @param capacity Number of slots, rounded up to a power of two
+     */
+    public DecisionRingBuffer(int capacity) {
+        if (capacity < 2 || capacity > (1 << 24)) {
+            throw new IllegalArgumentException("Ring buffer capacity must be between 2 and 16777216");
+        }
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.slots = new Slot[size];
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            slots[i] = new Slot();
+        }
+    }
+    
+    /**
+     * Publish a decision into the next slot
+     * 
+     * @return Sequence number assigned to the decision
+     */
+    public long publish(long applicationId, String name, String panNumber, boolean eligible,
+                        int cibilScore, double loanAmount, double maxEligibleAmount, long decidedAtMillis) {
+        long sequence = nextSequence.getAndIncrement();
+        Slot slot = slots[(int) (sequence & mask)];
+        
+        // Mark the slot as being written before touching its fields
+        slot.sequence = -1;
+        VarHandle.storeStoreFence();
+        
+        slot.applicationId = applicationId;
+        slot.name = name;
+        slot.panNumber = panNumber;
+        slot.eligible = eligible;
+        slot.cibilScore = cibilScore;
+        slot.loanAmount = loanAmount;
+        slot.maxEligibleAmount = maxEligibleAmount;
+        slot.decidedAtMillis = decidedAtMillis;
+        
+        // Volatile write publishes the fields above
+        slot.sequence = sequence;
+        return sequence;
+    }
+    
+    /**
+     * Copy the decision with the given sequence into a reader-owned slot
+     * 
+     * @param sequence Sequence to read
+     * @param target Slot owned by the reader
+     * @return READ, NOT_READY (not yet published) or OVERWRITTEN (reader was lapped)
+     */
+    public int read(long sequence, Slot target) {
+        Slot slot = slots[(int) (sequence & mask)];
+        
+        long before = slot.sequence;
+        if (before != sequence) {
+            return before > sequence ? OVERWRITTEN : NOT_READY;
+        }
+        
+        target.applicationId = slot.applicationId;
+        target.name = slot.name;
+        target.panNumber = slot.panNumber;
+        target.eligible = slot.eligible;
+        target.cibilScore = slot.cibilScore;
+        target.loanAmount = slot.loanAmount;
+        target.maxEligibleAmount = slot.maxEligibleAmount;
+        target.decidedAtMillis = slot.decidedAtMillis;
+        
+        // Re-check: the slot must not have been reused while we copied it
+        VarHandle.loadLoadFence();
+        if (slot.sequence != sequence) {
+            return OVERWRITTEN;
+        }
+        target.sequence = sequence;
+        return READ;
+    }
+    
+    /**
+     * Sequence the next published decision will get
+     */
+    public long getNextSequence() {
+        return nextSequence.get();
+    }
+    
+    public int getCapacity() {
+        return slots.length;
+    }
+}
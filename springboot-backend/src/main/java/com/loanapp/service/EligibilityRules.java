@@ -0,0 +1,165 @@
+package com.loanapp.service;
+
+/**
+ * Pure eligibility rules used by LoanService
+ * Works on primitives only, so evaluating a decision never allocates
+ */
+public final class EligibilityRules {
+    
+    public static final int MIN_CIBIL_SCORE = 600;
+    public static final double MIN_MONTHLY_INCOME = 20000;
+    public static final int MAX_ANNUAL_INCOME_MULTIPLE = 5;
+    
+    // Decision codes returned by decide()
+    public static final int APPROVED = 0;
+    public static final int REJECTED_LOW_SCORE = 1;
+    public static final int REJECTED_LOW_INCOME = 2;
+    
+    private EligibilityRules() {
+    }
+    
+    /**
+     * Base CIBIL score for a monthly income bracket
+     *
+     * @param monthlyIncome User's monthly income
+     * @return Base score before loan-to-income adjustment
+     */
+    public static int baseScore(double monthlyIncome) {
+        if (monthlyIncome >= 100000) {
+            return 800;
+        } else if (monthlyIncome >= 75000) {
+            return 750;
+        } else if (monthlyIncome >= 50000) {
+            return 700;
+        } else if (monthlyIncome >= 30000) {
+            return 650;
+        } else if (monthlyIncome >= 20000) {
+            return 600;
+        }
+        return 550;
+    }
+    
+    /**
+     * Score adjustment based on loan-to-income ratio
+     *
+     * @param monthlyIncome User's monthly income
+     * @param loanAmount Requested loan amount
+     * @return Points to add to the base score
+     */
+    public static int loanToIncomeAdjustment(double monthlyIncome, double loanAmount) {
+        double loanToIncomeRatio = loanAmount / (monthlyIncome * 12);
+        
+        if (loanToIncomeRatio > 3) {
+            return -50;
+        } else if (loanToIncomeRatio > 2) {
+            return -30;
+        } else if (loanToIncomeRatio < 1) {
+            return 20;
+        }
+        return 0;
+    }
+    
+    /**
+     * Clamp a score to the CIBIL range (300-900)
+     */
+    public static int clampScore(int score) {
+        return Math.max(300, Math.min(900, score));
+    }
+    
+    /**
+     * Rule 1 (minimum CIBIL score) and Rule 2 (minimum monthly income)
+     *
+     * @return APPROVED, REJECTED_LOW_SCORE or REJECTED_LOW_INCOME
+     */
+    public static int decide(int cibilScore, double monthlyIncome) {
+        if (cibilScore < MIN_CIBIL_SCORE) {
+            return REJECTED_LOW_SCORE;
+        }
+        if (monthlyIncome < MIN_MONTHLY_INCOME) {
+            return REJECTED_LOW_INCOME;
+        }
+        return APPROVED;
+    }
+    
+    /**
+     * Share of the requested amount granted for a CIBIL score tier
+     */
+    public static double tierPercentage(int cibilScore) {
+        if (cibilScore >= 750) {
+            // Excellent score: Full amount eligible
+            return 1.0;
+        } else if (cibilScore >= 700) {
+            // Very Good score: 90% eligible
+            return 0.9;
+        } else if (cibilScore >= 650) {
+            // Good score: 75% eligible
+            return 0.75;
+        }
+        // Fair score: 50% eligible
+        return 0.5;
+    }
+    
+    /**
+     * Loan amount should not exceed 5x annual income
+     */
+    public static double maxAffordableLoan(double monthlyIncome) {
+        return monthlyIncome * 12 * MAX_ANNUAL_INCOME_MULTIPLE;
+    }
+    
+    /**
+     * Maximum eligible amount for an approved applicant
+     * Applies the score tier first, then the income cap
+     *
+     * @param cibilScore Applicant's CIBIL score
+     * @param monthlyIncome User's monthly income
+     * @param loanAmount Requested loan amount
+     * @return Maximum amount the applicant can receive
+     */
+    public static double maxEligibleAmount(int cibilScore, double monthlyIncome, double loanAmount) {
+        double tierAmount = tierAmount(cibilScore, loanAmount);
+        double maxAffordableLoan = maxAffordableLoan(monthlyIncome);
+        return tierAmount > maxAffordableLoan ? maxAffordableLoan : tierAmount;
+    }
+    
+    /**
+     * Share of the requested amount granted to an approved applicant
+     * Falls back to cap / requested amount when the income cap applies
+     */
+    public static double eligibilityPercentage(int cibilScore, double monthlyIncome, double loanAmount) {
+        double maxAffordableLoan = maxAffordableLoan(monthlyIncome);
+        if (tierAmount(cibilScore, loanAmount) > maxAffordableLoan) {
+            return maxAffordableLoan / loanAmount;
+        }
+        return tierPercentage(cibilScore);
+    }
+    
+    /**
+     * Equated monthly instalment for a reducing-balance loan, rounded to paise
+     * 
+     * @param principal Loan principal
+     * @param annualInterestRate Annual interest rate in percent
+     * @param tenureMonths Number of monthly instalments
+     * @return Monthly instalment
+     */
+    public static double emi(double principal, double annualInterestRate, int tenureMonths) {
+        if (principal <= 0) {
+            return 0.0;
+        }
+        double monthlyRate = annualInterestRate / 12 / 100;
+        double emi;
+        if (monthlyRate == 0) {
+            emi = principal / tenureMonths;
+        } else {
+            double growth = Math.pow(1 + monthlyRate, tenureMonths);
+            emi = principal * monthlyRate * growth / (growth - 1);
+        }
+        return Math.round(emi * 100) / 100.0;
+    }
+    
+    private static double tierAmount(int cibilScore, double loanAmount) {
+        if (cibilScore >= 750) {
+            return loanAmount;
+        }
+        return Math.floor(loanAmount * tierPercentage(cibilScore));
+    }
+}
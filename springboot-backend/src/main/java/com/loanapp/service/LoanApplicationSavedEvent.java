@@ -0,0 +1,28 @@
+package com.loanapp.service;
+
+import com.loanapp.entity.LoanEntity;
+
+/**
+ * Published by LoanService when an application is saved
+ * Listeners react with @TransactionalEventListener(phase = AFTER_COMMIT),
+ * so nothing sees an application whose transaction rolled back
+ */
+public class LoanApplicationSavedEvent {
+    
+    private final LoanEntity loanEntity;
+    
+    public LoanApplicationSavedEvent(LoanEntity loanEntity) {
+        this.loanEntity = loanEntity;
+    }
+    
+    public LoanEntity getLoanEntity() {
+        return loanEntity;
+    }
+    
+    @Override
+    public String toString() {
+        return "LoanApplicationSavedEvent{" +
+                "applicationId=" + loanEntity.getId() +
+                '}';
+    }
+}
@@ -0,0 +1,274 @@
+package com.loanapp.service;
+
+import com.loanapp.entity.LoanEntity;
+import com.loanapp.repository.LoanArchiveStore;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Monthly range partitioning and archival for loan_applications (MySQL)
+ * Converts the table to PARTITION BY RANGE (TO_DAYS(created_at)) on the first run
+ * after loanapp.partitioning.enabled is switched on, keeps partitions created a few
+ * months ahead, and moves partitions older than the retention age into
+ * LoanArchiveStore before dropping them
+ */
+@Service
+public class LoanPartitionService {
+    
+    private static final String TABLE = "loan_applications";
+    private static final String KEYS_TABLE = "loan_applicant_keys";
+    private static final String CATCH_ALL_PARTITION = "pmax";
+    private static final DateTimeFormatter PARTITION_FORMAT = DateTimeFormatter.ofPattern("'p'yyyyMM");
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final LoanArchiveStore loanArchiveStore;
+    private final ApplicantSearchService applicantSearchService;
+    private final boolean enabled;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    
+    @Autowired
+    public LoanPartitionService(DataSource dataSource,
+                                LoanArchiveStore loanArchiveStore,
+                                ApplicantSearchService applicantSearchService,
+                                @Value("${loanapp.partitioning.enabled:false}") boolean enabled,
+                                @Value("${loanapp.partitioning.months-ahead:3}") int monthsAhead,
+                                @Value("${loanapp.archive.retention-months:12}") int retentionMonths) {
+        if (monthsAhead < 1) {
+            throw new IllegalArgumentException("loanapp.partitioning.months-ahead must be at least 1");
+        }
+        if (retentionMonths < 1) {
+            throw new IllegalArgumentException("loanapp.archive.retention-months must be at least 1");
+        }
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        // MySQL Connector/J streams rows one at a time only with this fetch size
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+        this.loanArchiveStore = loanArchiveStore;
+        this.applicantSearchService = applicantSearchService;
+        this.enabled = enabled;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+    }
+    
+    /**
+     * Partition the table, create upcoming partitions and archive expired ones
+     * Runs at startup and then on the configured schedule
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${loanapp.partitioning.maintenance-cron:0 30 2 * * *}")
+    public synchronized void maintain() {
+        if (!enabled) {
+            return;
+        }
+        
+        YearMonth currentMonth = YearMonth.now();
+        if (!isPartitioned()) {
+            partitionTable(currentMonth);
+        }
+        createPartitionsAhead(currentMonth);
+        archiveExpiredPartitions(currentMonth);
+    }
+    
+    /**
+     * Partition layout and archive contents
+     */
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", enabled);
+        if (enabled) {
+            status.put("partitions", partitionMonths().stream().map(this::partitionName).toList());
+        }
+        status.put("monthsAhead", monthsAhead);
+        status.put("retentionMonths", retentionMonths);
+        status.put("archivedMonths", loanArchiveStore.archivedMonths());
+        return status;
+    }
+    
+    private boolean isPartitioned() {
+        Integer partitions = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.PARTITIONS "
+                        + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL",
+                Integer.class, TABLE);
+        return partitions != null && partitions > 0;
+    }
+    
+    /**
+     * One-time conversion of the plain table created by Hibernate
+     * The partitioning column has to be part of every unique key, so the primary key
+     * becomes (id, created_at) and leftover unique indexes are dropped. Mobile and PAN
+     * numbers of existing rows are copied into loan_applicant_keys first, which keeps
+     * them unique from then on. This rewrites the whole table; run it in a quiet period.
+     */
+    private void partitionTable(YearMonth currentMonth) {
+        System.out.println("Partitioning " + TABLE + " by month of created_at");
+        
+        jdbcTemplate.update("UPDATE " + TABLE + " SET created_at = COALESCE(updated_at, NOW(6)) WHERE created_at IS NULL");
+        
+        int keys = jdbcTemplate.update("INSERT IGNORE INTO " + KEYS_TABLE + " (application_id, mobile_number, pan_number) "
+                + "SELECT id, mobile_number, pan_number FROM " + TABLE);
+        System.out.println("Copied " + keys + " applicant keys into " + KEYS_TABLE);
+        
+        List<String> uniqueIndexes = jdbcTemplate.queryForList(
+                "SELECT DISTINCT INDEX_NAME FROM information_schema.STATISTICS "
+                        + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND NON_UNIQUE = 0 AND INDEX_NAME <> 'PRIMARY'",
+                String.class, TABLE);
+        for (String index : uniqueIndexes) {
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP INDEX `" + index + "`");
+        }
+        
+        jdbcTemplate.execute("ALTER TABLE " + TABLE
+                + " MODIFY created_at DATETIME(6) NOT NULL, DROP PRIMARY KEY, ADD PRIMARY KEY (id, created_at)");
+        
+        // One partition per month from the oldest row up to the current month, plus a catch-all
+        Timestamp oldest = jdbcTemplate.queryForObject("SELECT MIN(created_at) FROM " + TABLE, Timestamp.class);
+        YearMonth firstMonth = oldest != null
+                ? YearMonth.from(oldest.toLocalDateTime())
+                : currentMonth;
+        if (firstMonth.isAfter(currentMonth)) {
+            firstMonth = currentMonth;
+        }
+        
+        List<String> definitions = new ArrayList<>();
+        for (YearMonth month = firstMonth; !month.isAfter(currentMonth); month = month.plusMonths(1)) {
+            definitions.add(partitionDefinition(month));
+        }
+        definitions.add("PARTITION " + CATCH_ALL_PARTITION + " VALUES LESS THAN MAXVALUE");
+        
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " PARTITION BY RANGE (TO_DAYS(created_at)) ("
+                + String.join(", ", definitions) + ")");
+        System.out.println("Partitioned " + TABLE + " into " + (definitions.size() - 1) + " monthly partitions");
+    }
+    
+    /**
+     * Split new monthly partitions off the empty catch-all ahead of time
+     */
+    private void createPartitionsAhead(YearMonth currentMonth) {
+        TreeSet<YearMonth> existing = partitionMonths();
+        YearMonth lastMonth = existing.isEmpty() ? currentMonth.minusMonths(1) : existing.last();
+        YearMonth targetMonth = currentMonth.plusMonths(monthsAhead);
+        
+        List<String> definitions = new ArrayList<>();
+        for (YearMonth month = lastMonth.plusMonths(1); !month.isAfter(targetMonth); month = month.plusMonths(1)) {
+            definitions.add(partitionDefinition(month));
+        }
+        if (definitions.isEmpty()) {
+            return;
+        }
+        definitions.add("PARTITION " + CATCH_ALL_PARTITION + " VALUES LESS THAN MAXVALUE");
+        
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " REORGANIZE PARTITION " + CATCH_ALL_PARTITION
+                + " INTO (" + String.join(", ", definitions) + ")");
+        System.out.println("Created " + (definitions.size() - 1) + " partitions ahead, up to "
+                + partitionName(targetMonth));
+    }
+    
+    /**
+     * Move every partition older than the retention age into the archive and drop it
+     * The archive file is committed before the partition is dropped, so a failure
+     * leaves the rows in the table and the next run archives them again
+     */
+    private void archiveExpiredPartitions(YearMonth currentMonth) {
+        YearMonth cutoff = currentMonth.minusMonths(retentionMonths);
+        
+        for (YearMonth month : partitionMonths()) {
+            if (!month.isBefore(cutoff)) {
+                break;
+            }
+            String partition = partitionName(month);
+            Set<Long> archivedIds = new HashSet<>();
+            
+            try (LoanArchiveStore.MonthWriter writer = loanArchiveStore.open(month)) {
+                streamingJdbcTemplate.query("SELECT * FROM " + TABLE + " PARTITION (" + partition + ")",
+                        (RowCallbackHandler) resultSet -> {
+                            try {
+                                LoanEntity loanEntity = mapRow(resultSet);
+                                writer.write(loanEntity);
+                                archivedIds.add(loanEntity.getId());
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(e);
+                            }
+                        });
+                long archived = writer.commit();
+                
+                jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP PARTITION " + partition);
+                // Their loan_applicant_keys rows stay, so the numbers remain taken
+                applicantSearchService.removeArchived(archivedIds);
+                System.out.println("Archived partition " + partition + " (" + archived + " applications) to "
+                        + writer.getTarget());
+            } catch (IOException | UncheckedIOException e) {
+                System.err.println("Could not archive partition " + partition + ": " + e.getMessage());
+                return;
+            }
+        }
+    }
+    
+    /**
+     * Monthly partitions currently defined on the table, oldest first
+     */
+    private TreeSet<YearMonth> partitionMonths() {
+        List<String> names = jdbcTemplate.queryForList(
+                "SELECT PARTITION_NAME FROM information_schema.PARTITIONS "
+                        + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL",
+                String.class, TABLE);
+        
+        TreeSet<YearMonth> months = new TreeSet<>();
+        for (String name : names) {
+            if (!CATCH_ALL_PARTITION.equals(name)) {
+                months.add(YearMonth.parse(name, PARTITION_FORMAT));
+            }
+        }
+        return months;
+    }
+    
+    private String partitionName(YearMonth month) {
+        return month.format(PARTITION_FORMAT);
+    }
+    
+    private String partitionDefinition(YearMonth month) {
+        LocalDate nextMonthStart = month.plusMonths(1).atDay(1);
+        return "PARTITION " + partitionName(month) + " VALUES LESS THAN (TO_DAYS('" + nextMonthStart + "'))";
+    }
+    
+    private static LoanEntity mapRow(ResultSet resultSet) throws SQLException {
+        LoanEntity loanEntity = new LoanEntity();
+        loanEntity.setId(resultSet.getLong("id"));
+        loanEntity.setName(resultSet.getString("name"));
+        loanEntity.setLoanAmount(resultSet.getObject("loan_amount", Double.class));
+        loanEntity.setMobileNumber(resultSet.getString("mobile_number"));
+        loanEntity.setPanNumber(resultSet.getString("pan_number"));
+        loanEntity.setMonthlyIncome(resultSet.getObject("monthly_income", Double.class));
+        loanEntity.setCibilScore(resultSet.getObject("cibil_score", Integer.class));
+        loanEntity.setEligible(resultSet.getObject("eligible", Boolean.class));
+        loanEntity.setMaxEligibleAmount(resultSet.getObject("max_eligible_amount", Double.class));
+        loanEntity.setMessage(resultSet.getString("message"));
+        loanEntity.setCreatedAt(resultSet.getObject("created_at", LocalDateTime.class));
+        loanEntity.setUpdatedAt(resultSet.getObject("updated_at", LocalDateTime.class));
+        return loanEntity;
+    }
+}
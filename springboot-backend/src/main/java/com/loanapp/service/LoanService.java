@@ -1,13 +1,25 @@
 package com.loanapp.service;
 
+import com.loanapp.diagnostics.MessageBuildingEvent;
+import com.loanapp.diagnostics.PersistenceEvent;
+import com.loanapp.diagnostics.RuleEvaluationEvent;
+import com.loanapp.diagnostics.ScoreComputationEvent;
+import com.loanapp.entity.ApplicantKeyEntity;
 import com.loanapp.entity.LoanEntity;
 import com.loanapp.model.LoanRequest;
 import com.loanapp.model.EligibilityResponse;
+import com.loanapp.model.QuoteRequest;
+import com.loanapp.model.QuoteResponse;
+import com.loanapp.repository.ApplicantKeyRepository;
 import com.loanapp.repository.LoanEntityRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.SQLException;
+import java.util.List;
 import java.util.Random;
 
 /**
@@ -17,17 +29,30 @@ import java.util.Random;
 @Service
 public class LoanService {
     
+    // Limits for the quote grid; grid sizes are on QuoteRequest
+    private static final int MAX_TENURE_MONTHS = 480;
+    
+    // MySQL ER_DUP_ENTRY; SQL state 23000 alone also covers NOT NULL and foreign key violations
+    private static final int MYSQL_DUPLICATE_ENTRY = 1062;
+    
     private final Random random = new Random();
     private final LoanEntityRepository loanEntityRepository;
+    private final ApplicantKeyRepository applicantKeyRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Autowired
-    public LoanService(LoanEntityRepository loanEntityRepository) {
+    public LoanService(LoanEntityRepository loanEntityRepository,
+                       ApplicantKeyRepository applicantKeyRepository,
+                       ApplicationEventPublisher eventPublisher) {
         this.loanEntityRepository = loanEntityRepository;
+        this.applicantKeyRepository = applicantKeyRepository;
+        this.eventPublisher = eventPublisher;
     }
     
     /**
      * Main method to check loan eligibility
      * Saves the loan application to the database
+     * Each stage is reported as a JDK Flight Recorder event
      * 
      * @param request LoanRequest containing user details
      * @return EligibilityResponse with eligibility determination
@@ -36,11 +61,43 @@ public class LoanService {
     public EligibilityResponse checkEligibility(LoanRequest request) {
         System.out.println("Processing loan eligibility for: " + request.getName());
         
+        double monthlyIncome = request.getMonthlyIncome();
+        double loanAmount = request.getLoanAmount();
+        
         // Calculate CIBIL score based on income and loan amount
-        int cibilScore = calculateCibilScore(request.getMonthlyIncome(), request.getLoanAmount());
+        ScoreComputationEvent scoreEvent = new ScoreComputationEvent();
+        scoreEvent.begin();
+        int cibilScore = calculateCibilScore(monthlyIncome, loanAmount);
+        scoreEvent.cibilScore = cibilScore;
+        scoreEvent.commit();
         System.out.println("Calculated CIBIL score: " + cibilScore);
         
-        // Create entity from request
+        // Rule 1: minimum CIBIL score (600), Rule 2: minimum monthly income (₹20,000)
+        // Approved applicants get a tier share of the amount, capped at 5x annual income
+        RuleEvaluationEvent ruleEvent = new RuleEvaluationEvent();
+        ruleEvent.begin();
+        int decision = EligibilityRules.decide(cibilScore, monthlyIncome);
+        boolean eligible = decision == EligibilityRules.APPROVED;
+        double maxEligibleAmount = 0.0;
+        double eligibilityPercentage = 0.0;
+        if (eligible) {
+            maxEligibleAmount = EligibilityRules.maxEligibleAmount(cibilScore, monthlyIncome, loanAmount);
+            eligibilityPercentage = EligibilityRules.eligibilityPercentage(cibilScore, monthlyIncome, loanAmount);
+        }
+        ruleEvent.decision = decision;
+        ruleEvent.maxEligibleAmount = maxEligibleAmount;
+        ruleEvent.commit();
+        
+        // Construct decision message
+        MessageBuildingEvent messageEvent = new MessageBuildingEvent();
+        messageEvent.begin();
+        String message = buildMessage(decision, request.getName(), eligibilityPercentage);
+        messageEvent.messageLength = message.length();
+        messageEvent.commit();
+        
+        // Create entity from request and save to database
+        PersistenceEvent persistenceEvent = new PersistenceEvent();
+        persistenceEvent.begin();
         LoanEntity loanEntity = new LoanEntity(
             request.getName(),
             request.getLoanAmount(),
@@ -49,74 +106,200 @@ public class LoanService {
             request.getMonthlyIncome()
         );
         loanEntity.setCibilScore(cibilScore);
-        
-        // Rule 1: Check minimum CIBIL score requirement (600)
-        if (cibilScore < 600) {
-            System.out.println("Rejected: CIBIL score below minimum threshold");
-            loanEntity.setEligible(false);
-            loanEntity.setMaxEligibleAmount(0.0);
-            loanEntity.setMessage("Your credit score is below the minimum required threshold. Please improve your credit history and try again.");
-            
-            // Save to database
+        loanEntity.setEligible(eligible);
+        loanEntity.setMaxEligibleAmount(maxEligibleAmount);
+        loanEntity.setMessage(message);
+        try {
             loanEntityRepository.save(loanEntity);
-            
-            return new EligibilityResponse(
-                false,
-                cibilScore,
-                0.0,
-                loanEntity.getMessage()
-            );
+            // One application per mobile and PAN number, enforced by loan_applicant_keys
+            applicantKeyRepository.saveAndFlush(new ApplicantKeyEntity(
+                loanEntity.getId(),
+                loanEntity.getMobileNumber(),
+                loanEntity.getPanNumber()
+            ));
+        } catch (DataIntegrityViolationException e) {
+            String duplicateMessage = duplicateApplicationMessage(e);
+            if (duplicateMessage == null) {
+                // Not a duplicate (e.g. NOT NULL or data too long): a server error, not bad input
+                throw e;
+            }
+            throw new IllegalArgumentException(duplicateMessage);
         }
+        persistenceEvent.applicationId = loanEntity.getId() != null ? loanEntity.getId() : -1L;
+        persistenceEvent.commit();
         
-        // Rule 2: Check minimum monthly income requirement (₹20,000)
-        if (request.getMonthlyIncome() < 20000) {
-            System.out.println("Rejected: Monthly income below minimum requirement");
-            loanEntity.setEligible(false);
-            loanEntity.setMaxEligibleAmount(0.0);
-            loanEntity.setMessage("Your monthly income does not meet the minimum requirement of ₹20,000.");
+        // Search index and live feed pick the application up once the transaction commits
+        eventPublisher.publishEvent(new LoanApplicationSavedEvent(loanEntity));
+        
+        if (eligible) {
+            System.out.println("Loan application saved to database with ID: " + loanEntity.getId());
+        }
+        
+        return new EligibilityResponse(
+            eligible,
+            cibilScore,
+            maxEligibleAmount,
+            message
+        );
+    }
+    
+    /**
+     * Read-only eligibility quote across a grid of loan amounts (and optionally tenures)
+     * The bureau part of the score is drawn once per call; only the deterministic
+     * loan-to-income adjustment varies across the grid. Nothing is persisted.
+     * 
+     * @param request QuoteRequest with income, amounts and optional tenures
+     * @return QuoteResponse with one column entry per loan amount
+     */
+    public QuoteResponse quote(QuoteRequest request) {
+        double monthlyIncome = request.getMonthlyIncome();
+        double[] loanAmounts = resolveLoanAmounts(request);
+        int[] tenureMonths = resolveTenureMonths(request);
+        double annualInterestRate = tenureMonths.length > 0 ? request.getAnnualInterestRate() : 0.0;
+        
+        // Fetch the score once: income bracket plus simulated bureau variation (-20 to +20)
+        int applicantScore = EligibilityRules.baseScore(monthlyIncome) + random.nextInt(41) - 20;
+        
+        int amountCount = loanAmounts.length;
+        int tenureCount = tenureMonths.length;
+        int[] cibilScores = new int[amountCount];
+        boolean[] eligible = new boolean[amountCount];
+        double[] maxEligibleAmounts = new double[amountCount];
+        double[][] emis = new double[amountCount][tenureCount];
+        
+        for (int i = 0; i < amountCount; i++) {
+            double loanAmount = loanAmounts[i];
+            int cibilScore = EligibilityRules.clampScore(
+                applicantScore + EligibilityRules.loanToIncomeAdjustment(monthlyIncome, loanAmount));
+            boolean approved = EligibilityRules.decide(cibilScore, monthlyIncome) == EligibilityRules.APPROVED;
+            double maxEligibleAmount = approved
+                ? EligibilityRules.maxEligibleAmount(cibilScore, monthlyIncome, loanAmount)
+                : 0.0;
             
-            // Save to database
-            loanEntityRepository.save(loanEntity);
+            cibilScores[i] = cibilScore;
+            eligible[i] = approved;
+            maxEligibleAmounts[i] = maxEligibleAmount;
             
-            return new EligibilityResponse(
-                false,
-                cibilScore,
-                0.0,
-                loanEntity.getMessage()
-            );
-        }
-        
-        // Calculate maximum eligible amount based on CIBIL score
-        double maxEligibleAmount;
-        double eligibilityPercentage;
-        
-        if (cibilScore >= 750) {
-            // Excellent score: Full amount eligible
-            eligibilityPercentage = 1.0;
-            maxEligibleAmount = request.getLoanAmount();
-        } else if (cibilScore >= 700) {
-            // Very Good score: 90% eligible
-            eligibilityPercentage = 0.9;
-            maxEligibleAmount = Math.floor(request.getLoanAmount() * 0.9);
-        } else if (cibilScore >= 650) {
-            // Good score: 75% eligible
-            eligibilityPercentage = 0.75;
-            maxEligibleAmount = Math.floor(request.getLoanAmount() * 0.75);
+            double[] emiRow = emis[i];
+            for (int j = 0; j < tenureCount; j++) {
+                emiRow[j] = EligibilityRules.emi(maxEligibleAmount, annualInterestRate, tenureMonths[j]);
+            }
+        }
+        
+        return new QuoteResponse(
+            monthlyIncome,
+            EligibilityRules.maxAffordableLoan(monthlyIncome),
+            loanAmounts,
+            cibilScores,
+            eligible,
+            maxEligibleAmounts,
+            tenureMonths,
+            tenureCount > 0 ? annualInterestRate : null,
+            emis
+        );
+    }
+    
+    /**
+     * Expand the requested loan amounts into a primitive array
+     * Accepts either an explicit list or a min/max/step range, not both
+     */
+    private double[] resolveLoanAmounts(QuoteRequest request) {
+        List<Double> listed = request.getLoanAmounts();
+        boolean hasList = listed != null && !listed.isEmpty();
+        boolean hasRange = request.getMinAmount() != null || request.getMaxAmount() != null
+                || request.getStep() != null;
+        
+        if (hasList == hasRange) {
+            throw new IllegalArgumentException("Provide either loanAmounts or minAmount/maxAmount/step");
+        }
+        
+        double[] amounts;
+        if (hasList) {
+            amounts = new double[listed.size()];
+            for (int i = 0; i < amounts.length; i++) {
+                Double amount = listed.get(i);
+                if (amount == null) {
+                    throw new IllegalArgumentException("Loan amounts cannot contain null values");
+                }
+                amounts[i] = amount;
+            }
         } else {
-            // Fair score: 50% eligible
-            eligibilityPercentage = 0.5;
-            maxEligibleAmount = Math.floor(request.getLoanAmount() * 0.5);
+            if (request.getMinAmount() == null || request.getMaxAmount() == null || request.getStep() == null) {
+                throw new IllegalArgumentException("minAmount, maxAmount and step are all required for a range");
+            }
+            double min = request.getMinAmount();
+            double max = request.getMaxAmount();
+            double step = request.getStep();
+            if (max < min) {
+                throw new IllegalArgumentException("maxAmount must not be less than minAmount");
+            }
+            // Tolerate rounding in the division so a range ending exactly on max keeps its last amount
+            double count = Math.floor((max - min) / step + 1e-9) + 1;
+            if (count > QuoteRequest.MAX_LOAN_AMOUNTS) {
+                throw new IllegalArgumentException(QuoteRequest.MAX_LOAN_AMOUNTS_MESSAGE);
+            }
+            amounts = new double[(int) count];
+            for (int i = 0; i < amounts.length; i++) {
+                // Round to paise so floating-point error in i * step cannot push an amount past max
+                amounts[i] = Math.min(max, Math.round((min + i * step) * 100) / 100.0);
+            }
         }
         
-        // Additional rule: Loan amount should not exceed 5x annual income
-        double maxAffordableLoan = request.getMonthlyIncome() * 12 * 5;
-        if (maxEligibleAmount > maxAffordableLoan) {
-            maxEligibleAmount = maxAffordableLoan;
-            eligibilityPercentage = maxAffordableLoan / request.getLoanAmount();
+        // Same limits as a LoanRequest
+        for (double amount : amounts) {
+            if (amount < LoanRequest.MIN_LOAN_AMOUNT) {
+                throw new IllegalArgumentException(LoanRequest.MIN_LOAN_AMOUNT_MESSAGE);
+            }
+            if (amount > LoanRequest.MAX_LOAN_AMOUNT) {
+                throw new IllegalArgumentException(LoanRequest.MAX_LOAN_AMOUNT_MESSAGE);
+            }
+        }
+        return amounts;
+    }
+    
+    /**
+     * Validate the optional tenures; an interest rate is required when tenures are given
+     */
+    private int[] resolveTenureMonths(QuoteRequest request) {
+        List<Integer> listed = request.getTenureMonths();
+        if (listed == null || listed.isEmpty()) {
+            return new int[0];
+        }
+        if (request.getAnnualInterestRate() == null) {
+            throw new IllegalArgumentException("Annual interest rate is required when tenures are given");
+        }
+        
+        int[] tenures = new int[listed.size()];
+        for (int i = 0; i < tenures.length; i++) {
+            Integer tenure = listed.get(i);
+            if (tenure == null || tenure < 1 || tenure > MAX_TENURE_MONTHS) {
+                throw new IllegalArgumentException("Tenure must be between 1 and " + MAX_TENURE_MONTHS + " months");
+            }
+            tenures[i] = tenure;
+        }
+        return tenures;
+    }
+    
+    /**
+     * Builds the applicant-facing message for a rule decision
+     * 
+     * @param decision Decision code from EligibilityRules
+     * @param name Applicant name
+     * @param eligibilityPercentage Share of the requested amount granted
+     * @return Decision message
+     */
+    private String buildMessage(int decision, String name, double eligibilityPercentage) {
+        if (decision == EligibilityRules.REJECTED_LOW_SCORE) {
+            System.out.println("Rejected: CIBIL score below minimum threshold");
+            return "Your credit score is below the minimum required threshold. Please improve your credit history and try again.";
         }
         
-        // Construct approval message
-        String message = String.format("Congratulations %s! You are eligible for a loan.", request.getName());
+        if (decision == EligibilityRules.REJECTED_LOW_INCOME) {
+            System.out.println("Rejected: Monthly income below minimum requirement");
+            return "Your monthly income does not meet the minimum requirement of ₹20,000.";
+        }
+        
+        String message = String.format("Congratulations %s! You are eligible for a loan.", name);
         
         if (eligibilityPercentage < 1.0) {
             message += String.format(" Based on your credit profile, you can receive up to %.0f%% of the requested amount.",
@@ -126,22 +309,29 @@ public class LoanService {
         }
         
         System.out.println("Approved: " + message);
-        
-        // Set entity fields and save to database
-        loanEntity.setEligible(true);
-        loanEntity.setMaxEligibleAmount(maxEligibleAmount);
-        loanEntity.setMessage(message);
-        
-        // Save to database
-        loanEntityRepository.save(loanEntity);
-        System.out.println("Loan application saved to database with ID: " + loanEntity.getId());
-        
-        return new EligibilityResponse(
-            true,
-            cibilScore,
-            maxEligibleAmount,
-            message
-        );
+        return message;
+    }
+    
+    /**
+     * Message for a rejected duplicate application, naming the key that already exists
+     * 
+     * @param e Integrity violation from saving the application and its applicant keys
+     * @return Applicant-facing message, or null when e is not a unique key violation
+     */
+    private String duplicateApplicationMessage(DataIntegrityViolationException e) {
+        Throwable cause = e.getMostSpecificCause();
+        String detail = String.valueOf(cause.getMessage());
+        if (detail.contains(ApplicantKeyEntity.MOBILE_NUMBER_CONSTRAINT)) {
+            return "An application with this mobile number already exists";
+        }
+        if (detail.contains(ApplicantKeyEntity.PAN_NUMBER_CONSTRAINT)) {
+            return "An application with this PAN number already exists";
+        }
+        if (cause instanceof SQLException sqlException && sqlException.getErrorCode() == MYSQL_DUPLICATE_ENTRY) {
+            // A unique index other than loan_applicant_keys' (e.g. a legacy loan_applications index)
+            return "An application with this mobile number or PAN number already exists";
+        }
+        return null;
     }
     
     /**
@@ -154,37 +344,14 @@ public class LoanService {
      */
     private int calculateCibilScore(double monthlyIncome, double loanAmount) {
         // Base score based on income brackets
-        int baseScore;
-        
-        if (monthlyIncome >= 100000) {
-            baseScore = 800;
-        } else if (monthlyIncome >= 75000) {
-            baseScore = 750;
-        } else if (monthlyIncome >= 50000) {
-            baseScore = 700;
-        } else if (monthlyIncome >= 30000) {
-            baseScore = 650;
-        } else if (monthlyIncome >= 20000) {
-            baseScore = 600;
-        } else {
-            baseScore = 550;
-        }
+        int baseScore = EligibilityRules.baseScore(monthlyIncome);
         
         // Adjust score based on loan-to-income ratio
-        double loanToIncomeRatio = loanAmount / (monthlyIncome * 12);
-        
-        if (loanToIncomeRatio > 3) {
-            baseScore -= 50;
-        } else if (loanToIncomeRatio > 2) {
-            baseScore -= 30;
-        } else if (loanToIncomeRatio < 1) {
-            baseScore += 20;
-        }
+        baseScore += EligibilityRules.loanToIncomeAdjustment(monthlyIncome, loanAmount);
         
         // Add some randomness for simulation (-20 to +20)
         int randomAdjustment = random.nextInt(41) - 20;
-        int finalScore = Math.max(300, Math.min(900, baseScore + randomAdjustment));
         
-        return finalScore;
+        return EligibilityRules.clampScore(baseScore + randomAdjustment);
     }
 }
@@ -0,0 +1,161 @@
+package com.loanapp.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.loanapp.model.EligibilityResponse;
+import com.loanapp.model.LoanRequest;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.SmartValidator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Compares the default path (Jackson binding + Hibernate Validator + Jackson serialization)
+ * with the fast codec path on the same mix of valid and invalid request bodies:
+ * both must produce the same values, field errors and bytes, and the fast path
+ * must allocate less per request. CPU time per request is printed for reference.
+ */
+class CodecBenchmarkTest {
+    
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int MEASURED_ITERATIONS = 100_000;
+    
+    // Three valid bodies and one failing several constraints
+    private static final byte[][] SAMPLE_BODIES = {
+        body("{\"name\":\"Rajesh Kumar\",\"loanAmount\":500000,\"mobileNumber\":\"9876543210\","
+                + "\"panNumber\":\"ABCDE1234F\",\"monthlyIncome\":50000}"),
+        body("{\n  \"name\": \"Priya Sharma\",\n  \"loanAmount\": 1250000.5,\n  \"mobileNumber\": \"7012345678\",\n"
+                + "  \"panNumber\": \"PQRST6789Z\",\n  \"monthlyIncome\": 85000\n}"),
+        body("{\"name\":\"Anil Reddy\",\"loanAmount\":75000,\"mobileNumber\":\"6000000001\","
+                + "\"panNumber\":\"LMNOP0001K\",\"monthlyIncome\":22000.75}"),
+        body("{\"name\":\"A\",\"loanAmount\":500,\"mobileNumber\":\"12345\","
+                + "\"panNumber\":\"INVALID\",\"monthlyIncome\":-1}")
+    };
+    
+    private static final EligibilityResponse SAMPLE_RESPONSE = new EligibilityResponse(
+        true, 742, 450000.0,
+        "Congratulations Rajesh Kumar! You are eligible for a loan. Based on your credit profile, "
+                + "you can receive up to 90% of the requested amount.");
+    
+    // Same settings as the application's ObjectMapper (spring.jackson in application.yml)
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .indentOutput(true)
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    private final SmartValidator hibernateValidator =
+            new SpringValidatorAdapter(Validation.buildDefaultValidatorFactory().getValidator());
+    private final LoanRequestCodec loanRequestCodec = new LoanRequestCodec(objectMapper);
+    private final EligibilityResponseCodec eligibilityResponseCodec = new EligibilityResponseCodec(objectMapper);
+    private final LoanRequestValidator loanRequestValidator = new LoanRequestValidator();
+    
+    @Test
+    void fastPathMatchesJacksonAndHibernateValidator() throws IOException {
+        assertTrue(loanRequestCodec.isCompatible());
+        assertTrue(eligibilityResponseCodec.isCompatible());
+        
+        for (byte[] body : SAMPLE_BODIES) {
+            String json = new String(body, StandardCharsets.UTF_8);
+            LoanRequest jackson = objectMapper.readValue(body, LoanRequest.class);
+            LoanRequest fast = loanRequestCodec.read(body);
+            assertNotNull(fast, json);
+            assertEquals(jackson.getName(), fast.getName(), json);
+            assertEquals(jackson.getLoanAmount(), fast.getLoanAmount(), json);
+            assertEquals(jackson.getMobileNumber(), fast.getMobileNumber(), json);
+            assertEquals(jackson.getPanNumber(), fast.getPanNumber(), json);
+            assertEquals(jackson.getMonthlyIncome(), fast.getMonthlyIncome(), json);
+            
+            Errors jacksonErrors = new BeanPropertyBindingResult(jackson, "loanRequest");
+            hibernateValidator.validate(jackson, jacksonErrors);
+            Errors fastErrors = new BeanPropertyBindingResult(fast, "loanRequest");
+            loanRequestValidator.validate(fast, fastErrors);
+            assertEquals(fieldMessages(jacksonErrors), fieldMessages(fastErrors), json);
+        }
+        
+        ByteArrayOutputStream fastOut = new ByteArrayOutputStream();
+        eligibilityResponseCodec.write(SAMPLE_RESPONSE, fastOut);
+        assertArrayEquals(objectMapper.writeValueAsBytes(SAMPLE_RESPONSE), fastOut.toByteArray());
+    }
+    
+    @Test
+    void fastPathAllocatesLessPerRequest() throws IOException {
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean.isCurrentThreadCpuTimeSupported() && threadMXBean.isThreadAllocatedMemorySupported(),
+                "Thread CPU time or allocation accounting is not available in this JVM");
+        
+        ByteArrayOutputStream out = new ByteArrayOutputStream(512);
+        
+        runJacksonPath(WARMUP_ITERATIONS, out);
+        long jacksonCpu = threadMXBean.getCurrentThreadCpuTime();
+        long jacksonBytes = threadMXBean.getCurrentThreadAllocatedBytes();
+        runJacksonPath(MEASURED_ITERATIONS, out);
+        jacksonCpu = threadMXBean.getCurrentThreadCpuTime() - jacksonCpu;
+        jacksonBytes = threadMXBean.getCurrentThreadAllocatedBytes() - jacksonBytes;
+        
+        runFastPath(WARMUP_ITERATIONS, out);
+        long fastCpu = threadMXBean.getCurrentThreadCpuTime();
+        long fastBytes = threadMXBean.getCurrentThreadAllocatedBytes();
+        runFastPath(MEASURED_ITERATIONS, out);
+        fastCpu = threadMXBean.getCurrentThreadCpuTime() - fastCpu;
+        fastBytes = threadMXBean.getCurrentThreadAllocatedBytes() - fastBytes;
+        
+        double jacksonBytesPerRequest = (double) jacksonBytes / MEASURED_ITERATIONS;
+        double fastBytesPerRequest = (double) fastBytes / MEASURED_ITERATIONS;
+        System.out.printf("Codec benchmark over %d requests: Jackson %.0f ns / %.0f B, fast path %.0f ns / %.0f B%n",
+                MEASURED_ITERATIONS,
+                (double) jacksonCpu / MEASURED_ITERATIONS, jacksonBytesPerRequest,
+                (double) fastCpu / MEASURED_ITERATIONS, fastBytesPerRequest);
+        
+        assertTrue(fastBytesPerRequest < jacksonBytesPerRequest,
+                "Fast path allocated " + fastBytesPerRequest + " bytes per request, Jackson path "
+                        + jacksonBytesPerRequest);
+    }
+    
+    private void runJacksonPath(int iterations, ByteArrayOutputStream out) throws IOException {
+        for (int i = 0; i < iterations; i++) {
+            LoanRequest request = objectMapper.readValue(SAMPLE_BODIES[i & 3], LoanRequest.class);
+            hibernateValidator.validate(request, new BeanPropertyBindingResult(request, "loanRequest"));
+            out.reset();
+            objectMapper.writeValue(out, SAMPLE_RESPONSE);
+        }
+    }
+    
+    private void runFastPath(int iterations, ByteArrayOutputStream out) throws IOException {
+        for (int i = 0; i < iterations; i++) {
+            LoanRequest request = loanRequestCodec.read(SAMPLE_BODIES[i & 3]);
+            loanRequestValidator.validate(request, new BeanPropertyBindingResult(request, "loanRequest"));
+            out.reset();
+            eligibilityResponseCodec.write(SAMPLE_RESPONSE, out);
+        }
+    }
+    
+    private static Set<String> fieldMessages(Errors errors) {
+        // Compared as a set, since Hibernate Validator reports violations in no fixed order
+        Set<String> messages = new TreeSet<>();
+        for (FieldError error : errors.getFieldErrors()) {
+            messages.add(error.getField() + ": " + error.getDefaultMessage());
+        }
+        return messages;
+    }
+    
+    private static byte[] body(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,105 @@
+package com.loanapp.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loanapp.entity.LoanEntity;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for LoanArchiveStore against a temporary directory
+ */
+class LoanArchiveStoreTest {
+    
+    private static final YearMonth JANUARY = YearMonth.of(2024, 1);
+    private static final YearMonth FEBRUARY = YearMonth.of(2024, 2);
+    
+    @TempDir
+    Path directory;
+    
+    private LoanArchiveStore store() {
+        return new LoanArchiveStore(directory.toString(), new ObjectMapper().findAndRegisterModules());
+    }
+    
+    @Test
+    void committedMonthsCanBeListedAndSearched() throws IOException {
+        LoanArchiveStore store = store();
+        assertEquals(List.of(), store.archivedMonths());
+        
+        try (LoanArchiveStore.MonthWriter writer = store.open(JANUARY)) {
+            writer.write(loanEntity(1L, "9876500001", "ABCDE0001F"));
+            writer.write(loanEntity(2L, "9876500002", "ABCDE0002F"));
+            assertEquals(2, writer.commit());
+            assertTrue(Files.exists(writer.getTarget()));
+        }
+        try (LoanArchiveStore.MonthWriter writer = store.open(FEBRUARY)) {
+            writer.write(loanEntity(3L, "9876500003", "ABCDE0003F"));
+            writer.commit();
+        }
+        
+        assertEquals(List.of(FEBRUARY, JANUARY), store.archivedMonths());
+        
+        Optional<LoanEntity> found = store.findFirst(e -> "ABCDE0002F".equals(e.getPanNumber()));
+        assertTrue(found.isPresent());
+        LoanEntity loanEntity = found.get();
+        assertEquals(2L, loanEntity.getId());
+        assertEquals("Applicant 2", loanEntity.getName());
+        assertEquals("9876500002", loanEntity.getMobileNumber());
+        assertEquals(500000.0, loanEntity.getLoanAmount());
+        assertEquals(true, loanEntity.getEligible());
+        assertEquals(LocalDateTime.of(2024, 1, 15, 10, 30), loanEntity.getCreatedAt());
+        
+        assertFalse(store.findFirst(e -> "ZZZZZ9999Z".equals(e.getPanNumber())).isPresent());
+    }
+    
+    @Test
+    void closingWithoutCommitDiscardsTheTemporaryFileAndKeepsTheEarlierArchive() throws IOException {
+        LoanArchiveStore store = store();
+        try (LoanArchiveStore.MonthWriter writer = store.open(JANUARY)) {
+            writer.write(loanEntity(1L, "9876500001", "ABCDE0001F"));
+            writer.commit();
+        }
+        
+        Path target;
+        try (LoanArchiveStore.MonthWriter writer = store.open(JANUARY)) {
+            target = writer.getTarget();
+            writer.write(loanEntity(2L, "9876500002", "ABCDE0002F"));
+            assertTrue(Files.exists(temporaryFile(target)));
+        }
+        
+        assertFalse(Files.exists(temporaryFile(target)));
+        assertEquals(List.of(JANUARY), store.archivedMonths());
+        assertTrue(store.findFirst(e -> e.getId() == 1L).isPresent());
+        assertFalse(store.findFirst(e -> e.getId() == 2L).isPresent());
+    }
+    
+    private static Path temporaryFile(Path target) {
+        return target.resolveSibling(target.getFileName() + ".tmp");
+    }
+    
+    private static LoanEntity loanEntity(long id, String mobileNumber, String panNumber) {
+        LoanEntity loanEntity = new LoanEntity();
+        loanEntity.setId(id);
+        loanEntity.setName("Applicant " + id);
+        loanEntity.setLoanAmount(500000.0);
+        loanEntity.setMobileNumber(mobileNumber);
+        loanEntity.setPanNumber(panNumber);
+        loanEntity.setMonthlyIncome(50000.0);
+        loanEntity.setCibilScore(720);
+        loanEntity.setEligible(true);
+        loanEntity.setMaxEligibleAmount(450000.0);
+        loanEntity.setCreatedAt(LocalDateTime.of(2024, 1, 15, 10, 30));
+        return loanEntity;
+    }
+}
@@ -0,0 +1,59 @@
+package com.loanapp.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for ApplicantSearchIndex
+ */
+class ApplicantSearchIndexTest {
+    
+    @Test
+    void ranksExactAndPrefixMatchesFirst() {
+        ApplicantSearchIndex index = new ApplicantSearchIndex();
+        index.add(1, "Rajesh Kumar", "ABCDE1234F", "9876543210");
+        index.add(2, "Kumari Devi", "KLMNO5678P", "9123456789");
+        index.add(3, "Anil Kumble", "PQRST4321Z", "9000000001");
+        
+        List<ApplicantSearchIndex.Match> matches = index.search("kumar", 10);
+        
+        assertEquals(2, matches.size());
+        assertEquals(2L, matches.get(0).getApplicationId());
+        assertEquals(1L, matches.get(1).getApplicationId());
+        assertEquals("name", matches.get(0).getMatchedField());
+    }
+    
+    @Test
+    void matchesPanPrefixAndMobileSuffix() {
+        ApplicantSearchIndex index = new ApplicantSearchIndex();
+        index.add(1, "Rajesh Kumar", "ABCDE1234F", "9876543210");
+        
+        assertEquals("panNumber", index.search("abcde", 10).get(0).getMatchedField());
+        assertEquals("mobileNumber", index.search("3210", 10).get(0).getMatchedField());
+    }
+    
+    @Test
+    void removedApplicationsDisappearFromResults() {
+        ApplicantSearchIndex index = new ApplicantSearchIndex();
+        index.add(1, "Rajesh Kumar", "ABCDE1234F", "9876543210");
+        index.add(2, "Rajesh Sharma", "FGHIJ5678K", "9123456789");
+        
+        assertEquals(1, index.removeAll(Set.of(1L, 99L)));
+        
+        List<ApplicantSearchIndex.Match> matches = index.search("rajesh", 10);
+        assertEquals(1, matches.size());
+        assertEquals(2L, matches.get(0).getApplicationId());
+        assertFalse(index.contains(1));
+        assertTrue(index.contains(2));
+        assertEquals(1, index.size());
+        
+        // Removing again is a no-op
+        assertEquals(0, index.removeAll(Set.of(1L)));
+    }
+}
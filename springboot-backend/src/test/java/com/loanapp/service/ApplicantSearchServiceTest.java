@@ -0,0 +1,72 @@
+package com.loanapp.service;
+
+import com.loanapp.entity.LoanEntity;
+import com.loanapp.repository.LoanEntityRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the startup load of the applicant search index
+ */
+class ApplicantSearchServiceTest {
+    
+    private static final int PAGE_SIZE = 1000;
+    
+    private final LoanEntityRepository loanEntityRepository = mock(LoanEntityRepository.class);
+    private final ApplicantSearchService searchService = new ApplicantSearchService(loanEntityRepository);
+    
+    @Test
+    void loadIndexPagesByIdUntilAShortPage() {
+        when(loanEntityRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Pageable.class)))
+                .thenReturn(applications(1, PAGE_SIZE));
+        when(loanEntityRepository.findByIdGreaterThanOrderByIdAsc(eq((long) PAGE_SIZE), any(Pageable.class)))
+                .thenReturn(applications(PAGE_SIZE + 1, 5));
+        
+        searchService.loadIndex();
+        
+        verify(loanEntityRepository).findByIdGreaterThanOrderByIdAsc(eq(0L), any(Pageable.class));
+        verify(loanEntityRepository).findByIdGreaterThanOrderByIdAsc(eq((long) PAGE_SIZE), any(Pageable.class));
+        verifyNoMoreInteractions(loanEntityRepository);
+        assertEquals(PAGE_SIZE + 5, ((Number) searchService.stats().get("documents")).intValue());
+    }
+    
+    @Test
+    void applicationsCommittedDuringTheLoadAreIndexedOnce() {
+        List<LoanEntity> stored = applications(1, 3);
+        when(loanEntityRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Pageable.class)))
+                .thenAnswer(invocation -> {
+                    // Committed while the load runs: one already in the page, one newer
+                    searchService.onApplicationSaved(new LoanApplicationSavedEvent(stored.get(2)));
+                    searchService.onApplicationSaved(new LoanApplicationSavedEvent(applications(4, 1).get(0)));
+                    return stored;
+                });
+        
+        searchService.loadIndex();
+        
+        assertEquals(4, ((Number) searchService.stats().get("documents")).intValue());
+    }
+    
+    private static List<LoanEntity> applications(long firstId, int count) {
+        List<LoanEntity> applications = new ArrayList<>();
+        for (long id = firstId; id < firstId + count; id++) {
+            LoanEntity loanEntity = new LoanEntity();
+            loanEntity.setId(id);
+            loanEntity.setName("Applicant " + id);
+            loanEntity.setPanNumber(String.format("ABCDE%04dF", id));
+            loanEntity.setMobileNumber(String.format("98%08d", id));
+            applications.add(loanEntity);
+        }
+        return applications;
+    }
+}
@@ -0,0 +1,175 @@
+package com.loanapp.service;
+
+import com.loanapp.entity.LoanEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for DecisionFeedService subscribers, driven through an emitter that records what is sent
+ */
+class DecisionFeedServiceTest {
+    
+    private static final int CAPACITY = 8;
+    private static final int MAX_SUBSCRIBERS = 2;
+    private static final long MAX_LAG = 4;
+    
+    private final DecisionFeedService feedService =
+            new DecisionFeedService(CAPACITY, MAX_SUBSCRIBERS, MAX_LAG, Duration.ofMinutes(1));
+    
+    @AfterEach
+    void shutdown() {
+        feedService.shutdown();
+    }
+    
+    @Test
+    void subscriberIsSentAConnectedCommentStraightAway() throws Exception {
+        RecordingEmitter emitter = new RecordingEmitter();
+        feedService.subscribe(null, emitter);
+        
+        assertEquals(":connected\n\n", emitter.next());
+    }
+    
+    @Test
+    void decisionsAreStreamedWithTheirSequenceAndMaskedData() throws Exception {
+        RecordingEmitter emitter = new RecordingEmitter();
+        feedService.subscribe(null, emitter);
+        assertEquals(":connected\n\n", emitter.next());
+        
+        feedService.publish(loanEntity(7L));
+        
+        String event = emitter.next();
+        assertTrue(event.startsWith("id:0\nevent:decision\ndata:"), event);
+        assertTrue(event.contains("applicationId=7"), event);
+        assertTrue(event.contains("name='R***'"), event);
+        assertTrue(event.contains("panNumber='AB***'"), event);
+    }
+    
+    @Test
+    void subscriberMoreThanMaxLagBehindSkipsToTheNewestAndReportsTheGap() throws Exception {
+        RecordingEmitter emitter = new RecordingEmitter();
+        emitter.holdFirstSend();
+        feedService.subscribe(null, emitter);
+        
+        // The subscriber is stuck sending its first event while ten decisions are published
+        emitter.awaitFirstSend();
+        for (long applicationId = 1; applicationId <= 10; applicationId++) {
+            feedService.publish(loanEntity(applicationId));
+        }
+        emitter.releaseFirstSend();
+        
+        assertEquals(":connected\n\n", emitter.next());
+        assertEquals("event:gap\ndata:10\n\n", emitter.next());
+        assertEquals(10L, subscriberStats().get("dropped"));
+        
+        // Delivery resumes from the newest decision
+        feedService.publish(loanEntity(11L));
+        String event = emitter.next();
+        assertTrue(event.startsWith("id:10\nevent:decision\n"), event);
+        assertTrue(event.contains("applicationId=11"), event);
+    }
+    
+    @Test
+    void maxLagIsCappedBelowTheBufferCapacity() {
+        DecisionFeedService service = new DecisionFeedService(CAPACITY, MAX_SUBSCRIBERS, 100, Duration.ofMinutes(1));
+        try {
+            assertEquals((long) CAPACITY - 1, service.stats().get("maxLag"));
+        } finally {
+            service.shutdown();
+        }
+    }
+    
+    @Test
+    void subscribersBeyondTheLimitAreRejectedWith503() {
+        for (int i = 0; i < MAX_SUBSCRIBERS; i++) {
+            feedService.subscribe(null, new RecordingEmitter());
+        }
+        
+        ResponseStatusException e = assertThrows(ResponseStatusException.class,
+                () -> feedService.subscribe(null, new RecordingEmitter()));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, e.getStatusCode());
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> subscriberStats() {
+        List<Map<String, Object>> subscribers = (List<Map<String, Object>>) feedService.stats().get("subscribers");
+        assertEquals(1, subscribers.size());
+        return subscribers.get(0);
+    }
+    
+    private static LoanEntity loanEntity(long id) {
+        LoanEntity loanEntity = new LoanEntity();
+        loanEntity.setId(id);
+        loanEntity.setName("Ravi Kumar");
+        loanEntity.setPanNumber("ABCDE1234F");
+        loanEntity.setEligible(true);
+        loanEntity.setCibilScore(760);
+        loanEntity.setLoanAmount(500000.0);
+        loanEntity.setMaxEligibleAmount(500000.0);
+        return loanEntity;
+    }
+    
+    /**
+     * Emitter that records every event as its SSE text instead of writing to a response
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+        
+        private final BlockingQueue<String> events = new LinkedBlockingQueue<>();
+        private final CountDownLatch firstSendStarted = new CountDownLatch(1);
+        private volatile CountDownLatch firstSendRelease = new CountDownLatch(0);
+        
+        void holdFirstSend() {
+            firstSendRelease = new CountDownLatch(1);
+        }
+        
+        void awaitFirstSend() throws InterruptedException {
+            assertTrue(firstSendStarted.await(5, TimeUnit.SECONDS), "Subscriber never sent an event");
+        }
+        
+        void releaseFirstSend() {
+            firstSendRelease.countDown();
+        }
+        
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (firstSendStarted.getCount() > 0) {
+                firstSendStarted.countDown();
+                try {
+                    firstSendRelease.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            
+            StringBuilder text = new StringBuilder();
+            for (ResponseBodyEmitter.DataWithMediaType data : builder.build()) {
+                text.append(data.getData());
+            }
+            events.add(text.toString());
+        }
+        
+        String next() throws InterruptedException {
+            String event = events.poll(5, TimeUnit.SECONDS);
+            assertNotNull(event, "No event was sent");
+            return event;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.loanapp.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for DecisionRingBuffer sequencing, lapping and capacity rounding
+ */
+class DecisionRingBufferTest {
+    
+    @Test
+    void capacityIsRoundedUpToAPowerOfTwo() {
+        assertEquals(2, new DecisionRingBuffer(2).getCapacity());
+        assertEquals(4, new DecisionRingBuffer(3).getCapacity());
+        assertEquals(4, new DecisionRingBuffer(4).getCapacity());
+        assertEquals(8, new DecisionRingBuffer(5).getCapacity());
+        assertEquals(4096, new DecisionRingBuffer(4096).getCapacity());
+    }
+    
+    @Test
+    void capacityOutsideTheLimitsIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new DecisionRingBuffer(1));
+        assertThrows(IllegalArgumentException.class, () -> new DecisionRingBuffer((1 << 24) + 1));
+    }
+    
+    @Test
+    void sequenceIsNotReadyUntilPublished() {
+        DecisionRingBuffer ringBuffer = new DecisionRingBuffer(4);
+        DecisionRingBuffer.Slot target = new DecisionRingBuffer.Slot();
+        
+        assertEquals(DecisionRingBuffer.NOT_READY, ringBuffer.read(0, target));
+        
+        publish(ringBuffer, 100);
+        assertEquals(DecisionRingBuffer.NOT_READY, ringBuffer.read(1, target));
+    }
+    
+    @Test
+    void publishedDecisionIsCopiedIntoTheReaderSlot() {
+        DecisionRingBuffer ringBuffer = new DecisionRingBuffer(4);
+        DecisionRingBuffer.Slot target = new DecisionRingBuffer.Slot();
+        
+        assertEquals(0, ringBuffer.publish(42, "Ravi Kumar", "ABCDE1234F", true, 780, 500000, 450000, 1234L));
+        assertEquals(1, ringBuffer.getNextSequence());
+        
+        assertEquals(DecisionRingBuffer.READ, ringBuffer.read(0, target));
+        assertEquals(42, target.getApplicationId());
+        assertEquals("Ravi Kumar", target.getName());
+        assertEquals("ABCDE1234F", target.getPanNumber());
+        assertEquals(true, target.isEligible());
+        assertEquals(780, target.getCibilScore());
+        assertEquals(500000.0, target.getLoanAmount());
+        assertEquals(450000.0, target.getMaxEligibleAmount());
+        assertEquals(1234L, target.getDecidedAtMillis());
+    }
+    
+    @Test
+    void lappedReaderSeesOverwrittenSlots() {
+        DecisionRingBuffer ringBuffer = new DecisionRingBuffer(4);
+        DecisionRingBuffer.Slot target = new DecisionRingBuffer.Slot();
+        
+        // Six decisions through four slots: sequences 0 and 1 are overwritten by 4 and 5
+        for (long applicationId = 0; applicationId < 6; applicationId++) {
+            publish(ringBuffer, applicationId);
+        }
+        
+        assertEquals(DecisionRingBuffer.OVERWRITTEN, ringBuffer.read(0, target));
+        assertEquals(DecisionRingBuffer.OVERWRITTEN, ringBuffer.read(1, target));
+        for (long sequence = 2; sequence < 6; sequence++) {
+            assertEquals(DecisionRingBuffer.READ, ringBuffer.read(sequence, target));
+            assertEquals(sequence, target.getApplicationId());
+        }
+        assertEquals(DecisionRingBuffer.NOT_READY, ringBuffer.read(6, target));
+    }
+    
+    private static void publish(DecisionRingBuffer ringBuffer, long applicationId) {
+        ringBuffer.publish(applicationId, "Applicant " + applicationId, "ABCDE1234F", true, 700, 100000, 90000, 0L);
+    }
+}
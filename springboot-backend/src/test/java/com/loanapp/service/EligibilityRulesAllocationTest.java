@@ -0,0 +1,81 @@
+package com.loanapp.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Allocation budget for the pure rule path (score computation, decision, tier and income cap)
+ * Fails when a change makes evaluating a decision allocate on the heap
+ */
+class EligibilityRulesAllocationTest {
+    
+    private static final long BUDGET_BYTES_PER_REQUEST = 8;
+    
+    private static final int WARMUP_ITERATIONS = 200_000;
+    private static final int MEASURED_ITERATIONS = 1_000_000;
+    private static final int SAMPLE_SIZE = 64;
+    
+    // Pre-built inputs covering every income bracket, ratio band and score tier
+    private final double[] sampleIncomes = new double[SAMPLE_SIZE];
+    private final double[] sampleAmounts = new double[SAMPLE_SIZE];
+    private final int[] sampleAdjustments = new int[SAMPLE_SIZE];
+    
+    // Keeps the JIT from discarding the measured loop
+    private volatile double sink;
+    
+    EligibilityRulesAllocationTest() {
+        double[] incomes = {15000, 25000, 40000, 60000, 80000, 150000};
+        double[] loanToAnnualIncome = {0.5, 1.5, 2.5, 4.0, 8.0};
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            sampleIncomes[i] = incomes[i % incomes.length];
+            sampleAmounts[i] = Math.floor(sampleIncomes[i] * 12 * loanToAnnualIncome[i % loanToAnnualIncome.length]);
+            sampleAdjustments[i] = (i * 7) % 41 - 20;
+        }
+    }
+    
+    @Test
+    void rulePathStaysWithinAllocationBudget() {
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported() && threadMXBean.isThreadAllocatedMemoryEnabled(),
+                "Thread allocation accounting is not available in this JVM");
+        
+        // Warm up so the measurement reflects compiled code
+        sink = runRulePath(WARMUP_ITERATIONS);
+        
+        long before = threadMXBean.getCurrentThreadAllocatedBytes();
+        double result = runRulePath(MEASURED_ITERATIONS);
+        long allocatedBytes = threadMXBean.getCurrentThreadAllocatedBytes() - before;
+        sink = result;
+        
+        double bytesPerRequest = (double) allocatedBytes / MEASURED_ITERATIONS;
+        assertTrue(bytesPerRequest <= BUDGET_BYTES_PER_REQUEST,
+                "Rule path allocated " + bytesPerRequest + " bytes per request (" + allocatedBytes
+                        + " bytes over " + MEASURED_ITERATIONS + " requests), budget is "
+                        + BUDGET_BYTES_PER_REQUEST);
+    }
+    
+    private double runRulePath(int iterations) {
+        double total = 0;
+        for (int i = 0; i < iterations; i++) {
+            int k = i & (SAMPLE_SIZE - 1);
+            double monthlyIncome = sampleIncomes[k];
+            double loanAmount = sampleAmounts[k];
+            
+            int cibilScore = EligibilityRules.clampScore(
+                EligibilityRules.baseScore(monthlyIncome)
+                    + EligibilityRules.loanToIncomeAdjustment(monthlyIncome, loanAmount)
+                    + sampleAdjustments[k]);
+            
+            if (EligibilityRules.decide(cibilScore, monthlyIncome) == EligibilityRules.APPROVED) {
+                total += EligibilityRules.maxEligibleAmount(cibilScore, monthlyIncome, loanAmount);
+                total += EligibilityRules.eligibilityPercentage(cibilScore, monthlyIncome, loanAmount);
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,177 @@
+package com.loanapp.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit tests for EligibilityRules
+ * Pins the extracted rules to the decision logic LoanService used before the refactoring
+ */
+class EligibilityRulesTest {
+    
+    private static final double[] INCOMES = {
+        1000, 15000, 19999.99, 20000, 25000, 29999, 30000, 45000, 50000, 60000,
+        74999, 75000, 90000, 100000, 150000, 1000000
+    };
+    
+    private static final double[] LOAN_AMOUNTS = {
+        10000, 50000, 99999, 240000, 300000, 500000, 1000000, 2500000, 5000000, 10000000
+    };
+    
+    @Test
+    void baseScoreFollowsIncomeBrackets() {
+        assertEquals(550, EligibilityRules.baseScore(19999.99));
+        assertEquals(600, EligibilityRules.baseScore(20000));
+        assertEquals(600, EligibilityRules.baseScore(29999));
+        assertEquals(650, EligibilityRules.baseScore(30000));
+        assertEquals(700, EligibilityRules.baseScore(50000));
+        assertEquals(750, EligibilityRules.baseScore(75000));
+        assertEquals(800, EligibilityRules.baseScore(100000));
+    }
+    
+    @Test
+    void loanToIncomeAdjustmentFollowsRatioBands() {
+        // Annual income 600,000
+        assertEquals(20, EligibilityRules.loanToIncomeAdjustment(50000, 599999));
+        assertEquals(0, EligibilityRules.loanToIncomeAdjustment(50000, 600000));
+        assertEquals(0, EligibilityRules.loanToIncomeAdjustment(50000, 1200000));
+        assertEquals(-30, EligibilityRules.loanToIncomeAdjustment(50000, 1200001));
+        assertEquals(-30, EligibilityRules.loanToIncomeAdjustment(50000, 1800000));
+        assertEquals(-50, EligibilityRules.loanToIncomeAdjustment(50000, 1800001));
+    }
+    
+    @Test
+    void clampScoreKeepsCibilRange() {
+        assertEquals(300, EligibilityRules.clampScore(250));
+        assertEquals(650, EligibilityRules.clampScore(650));
+        assertEquals(900, EligibilityRules.clampScore(950));
+    }
+    
+    @Test
+    void scoreMatchesOriginalCalculation() {
+        for (double income : INCOMES) {
+            for (double amount : LOAN_AMOUNTS) {
+                for (int randomAdjustment = -20; randomAdjustment <= 20; randomAdjustment++) {
+                    int score = EligibilityRules.clampScore(EligibilityRules.baseScore(income)
+                            + EligibilityRules.loanToIncomeAdjustment(income, amount) + randomAdjustment);
+                    assertEquals(originalScore(income, amount, randomAdjustment), score,
+                            "income=" + income + ", amount=" + amount + ", adjustment=" + randomAdjustment);
+                }
+            }
+        }
+    }
+    
+    @Test
+    void decideRejectsLowScoreBeforeLowIncome() {
+        assertEquals(EligibilityRules.REJECTED_LOW_SCORE, EligibilityRules.decide(599, 15000));
+        assertEquals(EligibilityRules.REJECTED_LOW_SCORE, EligibilityRules.decide(599, 50000));
+        assertEquals(EligibilityRules.REJECTED_LOW_INCOME, EligibilityRules.decide(600, 19999.99));
+        assertEquals(EligibilityRules.APPROVED, EligibilityRules.decide(600, 20000));
+    }
+    
+    @Test
+    void tierPercentageFollowsScoreTiers() {
+        assertEquals(0.5, EligibilityRules.tierPercentage(600));
+        assertEquals(0.5, EligibilityRules.tierPercentage(649));
+        assertEquals(0.75, EligibilityRules.tierPercentage(650));
+        assertEquals(0.9, EligibilityRules.tierPercentage(700));
+        assertEquals(1.0, EligibilityRules.tierPercentage(750));
+        assertEquals(1.0, EligibilityRules.tierPercentage(900));
+    }
+    
+    @Test
+    void incomeCapLimitsEligibleAmount() {
+        // Excellent score but 5x annual income is 1,200,000
+        assertEquals(1200000, EligibilityRules.maxAffordableLoan(20000));
+        assertEquals(1200000, EligibilityRules.maxEligibleAmount(780, 20000, 2000000));
+        assertEquals(0.6, EligibilityRules.eligibilityPercentage(780, 20000, 2000000));
+        
+        // Cap not reached: tier share, rounded down
+        assertEquals(Math.floor(333333 * 0.75), EligibilityRules.maxEligibleAmount(660, 50000, 333333));
+        assertEquals(0.75, EligibilityRules.eligibilityPercentage(660, 50000, 333333));
+    }
+    
+    @Test
+    void approvedAmountsMatchOriginalCalculation() {
+        for (double income : INCOMES) {
+            for (double amount : LOAN_AMOUNTS) {
+                for (int score = EligibilityRules.MIN_CIBIL_SCORE; score <= 900; score++) {
+                    double[] expected = originalApproval(score, income, amount);
+                    String context = "score=" + score + ", income=" + income + ", amount=" + amount;
+                    assertEquals(expected[0], EligibilityRules.maxEligibleAmount(score, income, amount), context);
+                    assertEquals(expected[1], EligibilityRules.eligibilityPercentage(score, income, amount), context);
+                }
+            }
+        }
+    }
+    
+    @Test
+    void emiMatchesReducingBalanceFormula() {
+        assertEquals(0.0, EligibilityRules.emi(0, 10, 12));
+        assertEquals(10000.0, EligibilityRules.emi(120000, 0, 12));
+        // 1,00,000 at 12% for 12 months
+        assertEquals(8884.88, EligibilityRules.emi(100000, 12, 12));
+    }
+    
+    /**
+     * CIBIL score calculation as LoanService computed it before the rules were extracted
+     */
+    private static int originalScore(double monthlyIncome, double loanAmount, int randomAdjustment) {
+        int baseScore;
+        if (monthlyIncome >= 100000) {
+            baseScore = 800;
+        } else if (monthlyIncome >= 75000) {
+            baseScore = 750;
+        } else if (monthlyIncome >= 50000) {
+            baseScore = 700;
+        } else if (monthlyIncome >= 30000) {
+            baseScore = 650;
+        } else if (monthlyIncome >= 20000) {
+            baseScore = 600;
+        } else {
+            baseScore = 550;
+        }
+        
+        double loanToIncomeRatio = loanAmount / (monthlyIncome * 12);
+        if (loanToIncomeRatio > 3) {
+            baseScore -= 50;
+        } else if (loanToIncomeRatio > 2) {
+            baseScore -= 30;
+        } else if (loanToIncomeRatio < 1) {
+            baseScore += 20;
+        }
+        
+        return Math.max(300, Math.min(900, baseScore + randomAdjustment));
+    }
+    
+    /**
+     * Maximum eligible amount and percentage as LoanService computed them before the rules were extracted
+     */
+    private static double[] originalApproval(int cibilScore, double monthlyIncome, double loanAmount) {
+        double maxEligibleAmount;
+        double eligibilityPercentage;
+        
+        if (cibilScore >= 750) {
+            eligibilityPercentage = 1.0;
+            maxEligibleAmount = loanAmount;
+        } else if (cibilScore >= 700) {
+            eligibilityPercentage = 0.9;
+            maxEligibleAmount = Math.floor(loanAmount * 0.9);
+        } else if (cibilScore >= 650) {
+            eligibilityPercentage = 0.75;
+            maxEligibleAmount = Math.floor(loanAmount * 0.75);
+        } else {
+            eligibilityPercentage = 0.5;
+            maxEligibleAmount = Math.floor(loanAmount * 0.5);
+        }
+        
+        double maxAffordableLoan = monthlyIncome * 12 * 5;
+        if (maxEligibleAmount > maxAffordableLoan) {
+            maxEligibleAmount = maxAffordableLoan;
+            eligibilityPercentage = maxAffordableLoan / loanAmount;
+        }
+        
+        return new double[] {maxEligibleAmount, eligibilityPercentage};
+    }
+}
@@ -0,0 +1,87 @@
+package com.loanapp.service;
+
+import com.loanapp.entity.ApplicantKeyEntity;
+import com.loanapp.model.LoanRequest;
+import com.loanapp.repository.ApplicantKeyRepository;
+import com.loanapp.repository.LoanEntityRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLIntegrityConstraintViolationException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Duplicate mobile and PAN numbers are rejected by the loan_applicant_keys unique constraints
+ * Other integrity violations are not mistaken for duplicates
+ */
+class LoanServiceDuplicateApplicationTest {
+    
+    private final ApplicantKeyRepository applicantKeyRepository = mock(ApplicantKeyRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final LoanService loanService = new LoanService(
+            mock(LoanEntityRepository.class), applicantKeyRepository, eventPublisher);
+    
+    @Test
+    void duplicateMobileNumberIsRejected() {
+        rejectOn(ApplicantKeyEntity.MOBILE_NUMBER_CONSTRAINT);
+        
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> loanService.checkEligibility(request()));
+        assertEquals("An application with this mobile number already exists", e.getMessage());
+        verifyNoInteractions(eventPublisher);
+    }
+    
+    @Test
+    void duplicatePanNumberIsRejected() {
+        rejectOn(ApplicantKeyEntity.PAN_NUMBER_CONSTRAINT);
+        
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> loanService.checkEligibility(request()));
+        assertEquals("An application with this PAN number already exists", e.getMessage());
+        verifyNoInteractions(eventPublisher);
+    }
+    
+    @Test
+    void duplicateOnAnotherUniqueIndexIsRejected() {
+        rejectWith(new SQLIntegrityConstraintViolationException(
+                "Duplicate entry 'x' for key 'loan_applications.uk_mobile'", "23000", 1062));
+        
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> loanService.checkEligibility(request()));
+        assertEquals("An application with this mobile number or PAN number already exists", e.getMessage());
+    }
+    
+    @Test
+    void otherIntegrityViolationsAreNotReportedAsDuplicates() {
+        DataIntegrityViolationException notNull = rejectWith(new SQLIntegrityConstraintViolationException(
+                "Column 'pan_number' cannot be null", "23000", 1048));
+        
+        DataIntegrityViolationException e = assertThrows(DataIntegrityViolationException.class,
+                () -> loanService.checkEligibility(request()));
+        assertSame(notNull, e);
+        verifyNoInteractions(eventPublisher);
+    }
+    
+    private void rejectOn(String constraint) {
+        rejectWith(new SQLIntegrityConstraintViolationException(
+                "Duplicate entry 'x' for key 'loan_applicant_keys." + constraint + "'", "23000", 1062));
+    }
+    
+    private DataIntegrityViolationException rejectWith(SQLIntegrityConstraintViolationException cause) {
+        DataIntegrityViolationException e = new DataIntegrityViolationException("could not execute statement", cause);
+        when(applicantKeyRepository.saveAndFlush(any(ApplicantKeyEntity.class))).thenThrow(e);
+        return e;
+    }
+    
+    private static LoanRequest request() {
+        return new LoanRequest("Rajesh Kumar", 500000.0, "9876543210", "ABCDE1234F", 50000.0);
+    }
+}
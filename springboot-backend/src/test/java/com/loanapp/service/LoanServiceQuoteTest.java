@@ -0,0 +1,86 @@
+package com.loanapp.service;
+
+import com.loanapp.model.LoanRequest;
+import com.loanapp.model.QuoteRequest;
+import com.loanapp.model.QuoteResponse;
+import com.loanapp.repository.ApplicantKeyRepository;
+import com.loanapp.repository.LoanEntityRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Unit tests for the read-only quote grid in LoanService
+ */
+class LoanServiceQuoteTest {
+    
+    private final LoanEntityRepository loanEntityRepository = mock(LoanEntityRepository.class);
+    private final LoanService loanService = new LoanService(
+            loanEntityRepository, mock(ApplicantKeyRepository.class), mock(ApplicationEventPublisher.class));
+    
+    @Test
+    void quoteAcceptsTheLoanRequestLimits() {
+        QuoteRequest request = new QuoteRequest();
+        request.setMonthlyIncome(50000.0);
+        request.setLoanAmounts(List.of((double) LoanRequest.MIN_LOAN_AMOUNT, (double) LoanRequest.MAX_LOAN_AMOUNT));
+        
+        QuoteResponse response = loanService.quote(request);
+        
+        assertArrayEquals(new double[] {LoanRequest.MIN_LOAN_AMOUNT, LoanRequest.MAX_LOAN_AMOUNT},
+                response.getLoanAmounts());
+        verifyNoInteractions(loanEntityRepository);
+    }
+    
+    @Test
+    void quoteRejectsAmountsOutsideTheLoanRequestLimits() {
+        QuoteRequest belowMinimum = new QuoteRequest();
+        belowMinimum.setMonthlyIncome(50000.0);
+        belowMinimum.setLoanAmounts(List.of(LoanRequest.MIN_LOAN_AMOUNT - 1.0));
+        IllegalArgumentException tooSmall = assertThrows(IllegalArgumentException.class,
+                () -> loanService.quote(belowMinimum));
+        assertEquals(LoanRequest.MIN_LOAN_AMOUNT_MESSAGE, tooSmall.getMessage());
+        
+        QuoteRequest aboveMaximum = new QuoteRequest();
+        aboveMaximum.setMonthlyIncome(50000.0);
+        aboveMaximum.setMinAmount(LoanRequest.MAX_LOAN_AMOUNT - 10000.0);
+        aboveMaximum.setMaxAmount(LoanRequest.MAX_LOAN_AMOUNT + 10000.0);
+        aboveMaximum.setStep(10000.0);
+        IllegalArgumentException tooLarge = assertThrows(IllegalArgumentException.class,
+                () -> loanService.quote(aboveMaximum));
+        assertEquals(LoanRequest.MAX_LOAN_AMOUNT_MESSAGE, tooLarge.getMessage());
+    }
+    
+    @Test
+    void rangeEndingOnTheMaximumIsNotPushedPastIt() {
+        QuoteRequest request = new QuoteRequest();
+        request.setMonthlyIncome(50000.0);
+        request.setMinAmount(1699829.8);
+        request.setMaxAmount((double) LoanRequest.MAX_LOAN_AMOUNT);
+        request.setStep(1185738.6);
+        
+        double[] amounts = loanService.quote(request).getLoanAmounts();
+        
+        assertEquals(8, amounts.length);
+        assertEquals(2885568.4, amounts[1]);
+        assertEquals((double) LoanRequest.MAX_LOAN_AMOUNT, amounts[7]);
+    }
+    
+    @Test
+    void rangeLargerThanTheGridLimitIsRejected() {
+        QuoteRequest request = new QuoteRequest();
+        request.setMonthlyIncome(50000.0);
+        request.setMinAmount((double) LoanRequest.MIN_LOAN_AMOUNT);
+        request.setMaxAmount((double) LoanRequest.MAX_LOAN_AMOUNT);
+        request.setStep(1000.0);
+        
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> loanService.quote(request));
+        assertEquals(QuoteRequest.MAX_LOAN_AMOUNTS_MESSAGE, e.getMessage());
+    }
+}